@@ -0,0 +1,99 @@
+package com.simplifiedTransferSystemSpring.domain.money;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The balance check and update of a transfer done with {@code BigDecimal}
+ * and with {@link Money}. Run with {@code -prof gc} to compare allocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyArithmeticBenchmark {
+
+    private BigDecimal decimalPayer;
+    private BigDecimal decimalPayee;
+    private BigDecimal decimalAmount;
+
+    private Money moneyPayer;
+    private Money moneyPayee;
+    private Money moneyAmount;
+
+    @Setup
+    public void setUp() {
+        decimalPayer = new BigDecimal("1000000.00");
+        decimalPayee = new BigDecimal("0.00");
+        decimalAmount = new BigDecimal("10.25");
+        moneyPayer = Money.of(decimalPayer);
+        moneyPayee = Money.of(decimalPayee);
+        moneyAmount = Money.of(decimalAmount);
+    }
+
+    @Benchmark
+    public boolean bigDecimalCompare() {
+        return decimalPayer.compareTo(decimalAmount) < 0;
+    }
+
+    @Benchmark
+    public boolean moneyCompare() {
+        return moneyPayer.isLessThan(moneyAmount);
+    }
+
+    @Benchmark
+    public void bigDecimalTransfer() {
+        // alternating direction keeps the balances bounded across iterations
+        if (decimalPayer.compareTo(decimalAmount) >= 0) {
+            decimalPayer = decimalPayer.subtract(decimalAmount);
+            decimalPayee = decimalPayee.add(decimalAmount);
+        }
+        if (decimalPayee.compareTo(decimalAmount) >= 0) {
+            decimalPayee = decimalPayee.subtract(decimalAmount);
+            decimalPayer = decimalPayer.add(decimalAmount);
+        }
+    }
+
+    @Benchmark
+    public void moneyTransfer() {
+        if (!moneyPayer.isLessThan(moneyAmount)) {
+            moneyPayer = moneyPayer.minus(moneyAmount);
+            moneyPayee = moneyPayee.plus(moneyAmount);
+        }
+        if (!moneyPayee.isLessThan(moneyAmount)) {
+            moneyPayee = moneyPayee.minus(moneyAmount);
+            moneyPayer = moneyPayer.plus(moneyAmount);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalSum() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < 100; i++) {
+            total = total.add(decimalAmount);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money moneySum() {
+        Money total = Money.ZERO;
+        for (int i = 0; i < 100; i++) {
+            total = total.plus(moneyAmount);
+        }
+        return total;
+    }
+}
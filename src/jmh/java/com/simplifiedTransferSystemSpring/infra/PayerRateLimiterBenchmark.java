@@ -0,0 +1,69 @@
+package com.simplifiedTransferSystemSpring.infra;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-request cost of admission control on {@code POST /transactions}:
+ * taking a payer token and the global in-flight permit, with 8 threads
+ * hitting either one hot payer or payers spread over 100k ids.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class PayerRateLimiterBenchmark {
+
+    private static final int PAYERS = 100_000;
+
+    // a rate no test reaches, so every call takes the admit path
+    private final PayerRateLimiter unbounded = new PayerRateLimiter(1e9, 1_000, 16,
+            TimeUnit.SECONDS.toNanos(60));
+    // one token per second, so a hot payer is almost always rejected
+    private final PayerRateLimiter tight = new PayerRateLimiter(1, 1, 16, TimeUnit.SECONDS.toNanos(60));
+    private final Semaphore inFlight = new Semaphore(10);
+
+    @Benchmark
+    public long spreadPayersAdmitted() {
+        return unbounded.tryAcquire(ThreadLocalRandom.current().nextInt(PAYERS), System.nanoTime());
+    }
+
+    @Benchmark
+    public long hotPayerAdmitted() {
+        return unbounded.tryAcquire(42L, System.nanoTime());
+    }
+
+    @Benchmark
+    public long hotPayerRejected() {
+        return tight.tryAcquire(42L, System.nanoTime());
+    }
+
+    @Benchmark
+    public long fullAdmission() {
+        long wait = unbounded.tryAcquire(ThreadLocalRandom.current().nextInt(PAYERS), System.nanoTime());
+        if (wait == 0 && inFlight.tryAcquire()) {
+            inFlight.release();
+        }
+        return wait;
+    }
+
+    @Benchmark
+    public long baselineClockAndRandom() {
+        return ThreadLocalRandom.current().nextInt(PAYERS) + System.nanoTime();
+    }
+}
@@ -0,0 +1,95 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.simplifiedTransferSystemSpring.SimplifiedTransferSystemSpringApplication;
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.domain.transaction.Transaction;
+import com.simplifiedTransferSystemSpring.domain.user.User;
+import com.simplifiedTransferSystemSpring.domain.user.UserType;
+import com.simplifiedTransferSystemSpring.dtos.TransactionDTO;
+import com.simplifiedTransferSystemSpring.dtos.UserDTO;
+import com.simplifiedTransferSystemSpring.support.StubHttpServer;
+
+/**
+ * End-to-end {@link TransactionService#createTransaction} against in-memory
+ * H2, with the authorizer served by a local stub over the pooled
+ * {@code RestTemplate}. Wallets swap roles every call so balances never run
+ * out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreateTransactionBenchmark {
+
+    private StubHttpServer stub;
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+
+    private TransactionDTO forward;
+    private TransactionDTO backward;
+    private boolean flip;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stub = StubHttpServer.start();
+        stub.respond(200, "{\"status\":\"success\",\"data\":{\"authorization\":true}}");
+
+        // passed as arguments so they override application.properties
+        context = new SpringApplicationBuilder(SimplifiedTransferSystemSpringApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:jmh-create-transaction;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.devtools.restart.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--notification.dispatcher.enabled=false",
+                        "--authorizer.url=" + stub.url("/api/v2/authorize"),
+                        "--notification.url=" + stub.url("/api/v1/notify"));
+        transactionService = context.getBean(TransactionService.class);
+
+        UserService userService = context.getBean(UserService.class);
+        User a = createUser(userService);
+        User b = createUser(userService);
+        forward = new TransactionDTO(Money.ofCents(100), a.getId(), b.getId());
+        backward = new TransactionDTO(Money.ofCents(100), b.getId(), a.getId());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        stub.close();
+    }
+
+    @Benchmark
+    public Transaction createTransaction() {
+        flip = !flip;
+        return transactionService.createTransaction(flip ? forward : backward);
+    }
+
+    private static User createUser(UserService userService) {
+        String id = UUID.randomUUID().toString();
+        return userService.createUser(new UserDTO("Jmh", id, id, Money.parse("1000000.00"), "secret",
+                id + "@example.com", UserType.COMMON));
+    }
+}
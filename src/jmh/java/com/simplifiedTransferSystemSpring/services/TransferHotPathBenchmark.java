@@ -0,0 +1,87 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.domain.user.User;
+import com.simplifiedTransferSystemSpring.domain.user.UserType;
+
+/**
+ * CPU and allocation cost of the in-process steps of a transfer, without
+ * Spring or the database.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransferHotPathBenchmark {
+
+    private final UserService userService = new UserService();
+
+    private final Map<String, Object> dataResponse = Map.of(
+            "status", "success", "data", Map.of("authorization", true));
+    private final Map<String, Object> statusResponse = Map.of("status", "fail");
+
+    private User payer;
+    private User payee;
+    private Money amount;
+
+    @Setup
+    public void setUp() {
+        payer = user(UserType.COMMON, "1000000.00");
+        payee = user(UserType.MERCHANT, "0.00");
+        amount = Money.parse("10.25");
+    }
+
+    @Benchmark
+    public void validateUserTransaction() {
+        userService.validateUserTransaction(payer, amount);
+    }
+
+    @Benchmark
+    public void updateBalances() {
+        // alternating direction keeps the balances bounded across iterations
+        TransactionService.updateBalances(payer, payee, amount);
+        TransactionService.updateBalances(payee, payer, amount);
+    }
+
+    @Benchmark
+    public void moneyArithmetic(Blackhole blackhole) {
+        Money balance = payer.getBalance();
+        blackhole.consume(balance.isLessThan(amount));
+        blackhole.consume(balance.minus(amount));
+        blackhole.consume(payee.getBalance().plus(amount));
+    }
+
+    @Benchmark
+    public Boolean parseDataResponse() {
+        return AuthorizationClient.parseAuthorizationResponse(dataResponse);
+    }
+
+    @Benchmark
+    public Boolean parseStatusResponse() {
+        return AuthorizationClient.parseAuthorizationResponse(statusResponse);
+    }
+
+    private static User user(UserType type, String balance) {
+        User user = new User();
+        user.setUserType(type);
+        user.setBalance(Money.parse(balance));
+        return user;
+    }
+}
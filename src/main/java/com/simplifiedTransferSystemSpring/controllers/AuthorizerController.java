@@ -0,0 +1,26 @@
+package com.simplifiedTransferSystemSpring.controllers;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.simplifiedTransferSystemSpring.dtos.AuthorizationMetricsDTO;
+import com.simplifiedTransferSystemSpring.services.AuthorizationClient;
+
+@RestController
+@RequestMapping("/authorizer")
+public class AuthorizerController {
+
+    private final AuthorizationClient authorizationClient;
+
+    public AuthorizerController(AuthorizationClient authorizationClient) {
+        this.authorizationClient = authorizationClient;
+    }
+
+    @GetMapping("/metrics")
+    public ResponseEntity<AuthorizationMetricsDTO> getMetrics() {
+        return ResponseEntity.ok(this.authorizationClient.getMetrics());
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.simplifiedTransferSystemSpring.controllers;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.simplifiedTransferSystemSpring.dtos.AggregateRebuildDTO;
+import com.simplifiedTransferSystemSpring.dtos.WalletDailyTotalsDTO;
+import com.simplifiedTransferSystemSpring.dtos.WalletTotalsDTO;
+import com.simplifiedTransferSystemSpring.services.TransferAggregates;
+import com.simplifiedTransferSystemSpring.services.TransferAggregatesRebuilder;
+
+@RestController
+@RequestMapping("/reports")
+public class ReportController {
+
+    private final TransferAggregates transferAggregates;
+
+    private final TransferAggregatesRebuilder rebuilder;
+
+    public ReportController(TransferAggregates transferAggregates, TransferAggregatesRebuilder rebuilder) {
+        this.transferAggregates = transferAggregates;
+        this.rebuilder = rebuilder;
+    }
+
+    @GetMapping("/wallets/{id}/totals")
+    public ResponseEntity<WalletTotalsDTO> getTotals(@PathVariable Long id) {
+        return ResponseEntity.ok(this.transferAggregates.findTotals(id));
+    }
+
+    @GetMapping("/wallets/{id}/daily")
+    public ResponseEntity<List<WalletDailyTotalsDTO>> getDailyTotals(@PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        return ResponseEntity.ok(this.transferAggregates.findDaily(id, start, end));
+    }
+
+    @GetMapping("/top-payees")
+    public ResponseEntity<List<WalletTotalsDTO>> getTopPayees(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(this.transferAggregates.findTopPayees(limit));
+    }
+
+    @GetMapping("/top-payees/daily")
+    public ResponseEntity<List<WalletDailyTotalsDTO>> getTopPayeesOn(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate day,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(this.transferAggregates.findTopPayees(day != null ? day : LocalDate.now(), limit));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<AggregateRebuildDTO> rebuild() {
+        return ResponseEntity.ok(this.rebuilder.rebuild());
+    }
+
+}
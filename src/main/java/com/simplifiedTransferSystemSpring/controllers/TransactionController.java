@@ -1,38 +1,116 @@
 package com.simplifiedTransferSystemSpring.controllers;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.simplifiedTransferSystemSpring.domain.transaction.BatchMode;
 import com.simplifiedTransferSystemSpring.domain.transaction.Transaction;
+import com.simplifiedTransferSystemSpring.dtos.BatchTransferDTO;
+import com.simplifiedTransferSystemSpring.dtos.BatchTransferResultDTO;
 import com.simplifiedTransferSystemSpring.dtos.TransactionDTO;
+import com.simplifiedTransferSystemSpring.dtos.TransactionFilter;
+import com.simplifiedTransferSystemSpring.dtos.TransactionPageDTO;
+import com.simplifiedTransferSystemSpring.dtos.TransactionSummaryDTO;
+import com.simplifiedTransferSystemSpring.services.IdempotencyService;
 import com.simplifiedTransferSystemSpring.services.TransactionService;
+import com.simplifiedTransferSystemSpring.services.TransferAdmission;
+import com.simplifiedTransferSystemSpring.services.TransferAdmission.Permit;
+
+import tools.jackson.databind.json.JsonMapper;
 
 @RestController
 @RequestMapping("/transactions")
 public class TransactionController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     @Autowired
     private TransactionService transactionService;
 
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private TransferAdmission transferAdmission;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
     @PostMapping
-    public ResponseEntity<Transaction> createTransaction(@RequestBody TransactionDTO transactionDTO) throws Exception {
-        Transaction newTransaction = this.transactionService.createTransaction(transactionDTO);
+    public ResponseEntity<TransactionSummaryDTO> createTransaction(@RequestBody TransactionDTO transactionDTO,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) throws Exception {
+        try (Permit permit = this.transferAdmission.admit(transactionDTO.payerId())) {
+            if (idempotencyKey != null) {
+                return new ResponseEntity<>(this.idempotencyService.execute(idempotencyKey, transactionDTO),
+                        HttpStatus.OK);
+            }
+
+            Transaction newTransaction = this.transactionService.createTransaction(transactionDTO);
+
+            return new ResponseEntity<>(TransactionSummaryDTO.of(newTransaction), HttpStatus.OK);
+        }
+    }
 
-        return new ResponseEntity<>(newTransaction, HttpStatus.OK);
+    @PostMapping("/batch")
+    public ResponseEntity<BatchTransferResultDTO> createBatch(@RequestBody BatchTransferDTO batch) {
+        List<Long> payerIds = batch.transfers() == null ? List.of()
+                : batch.transfers().stream().filter(Objects::nonNull).map(TransactionDTO::payerId).toList();
+        try (Permit permit = this.transferAdmission.admit(payerIds)) {
+            BatchTransferResultDTO result = this.transactionService.createBatch(batch);
 
+            HttpStatus status = result.mode() == BatchMode.ALL_OR_NOTHING && result.rejected() > 0
+                    ? HttpStatus.UNPROCESSABLE_CONTENT
+                    : HttpStatus.OK;
+            return new ResponseEntity<>(result, status);
+        }
     }
 
     @GetMapping
-    public ResponseEntity<List<Transaction>> getAllTransactions() {
-        return ResponseEntity.ok(this.transactionService.getAllTransactions());
+    public ResponseEntity<TransactionPageDTO> getTransactions(
+            @RequestParam(required = false) Long payerId,
+            @RequestParam(required = false) Long payeeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        TransactionFilter filter = new TransactionFilter(payerId, payeeId, from, to);
+        return ResponseEntity.ok(this.transactionService.getTransactions(filter, cursor, limit));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam(required = false) Long payerId,
+            @RequestParam(required = false) Long payeeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        TransactionFilter filter = new TransactionFilter(payerId, payeeId, from, to);
+
+        StreamingResponseBody body = out -> this.transactionService.exportTransactions(filter, row -> {
+            try {
+                out.write(this.jsonMapper.writeValueAsBytes(row));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
     }
 
 }
@@ -1,17 +1,34 @@
 package com.simplifiedTransferSystemSpring.controllers;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.Locale;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
+import com.simplifiedTransferSystemSpring.domain.user.BalanceConsistency;
 import com.simplifiedTransferSystemSpring.domain.user.User;
+import com.simplifiedTransferSystemSpring.dtos.StatementDTO;
+import com.simplifiedTransferSystemSpring.dtos.UserBalanceDTO;
 import com.simplifiedTransferSystemSpring.dtos.UserDTO;
+import com.simplifiedTransferSystemSpring.dtos.UserImportResultDTO;
+import com.simplifiedTransferSystemSpring.dtos.UserResponseDTO;
+import com.simplifiedTransferSystemSpring.services.BalanceView;
+import com.simplifiedTransferSystemSpring.services.TransactionService;
+import com.simplifiedTransferSystemSpring.services.UserImportService;
+import com.simplifiedTransferSystemSpring.services.UserImportService.Format;
 import com.simplifiedTransferSystemSpring.services.UserService;
 
 @RestController
@@ -20,20 +37,60 @@ public class UserController {
 
     private final UserService userService;
 
-    public UserController(UserService userService) {
+    private final TransactionService transactionService;
+
+    private final UserImportService userImportService;
+
+    private final BalanceView balanceView;
+
+    public UserController(UserService userService, TransactionService transactionService,
+            UserImportService userImportService, BalanceView balanceView) {
         this.userService = userService;
+        this.transactionService = transactionService;
+        this.userImportService = userImportService;
+        this.balanceView = balanceView;
     }
 
     @PostMapping
-    public ResponseEntity<User> createUser(@RequestBody UserDTO userDTO) {
+    public ResponseEntity<UserResponseDTO> createUser(@RequestBody UserDTO userDTO) {
         User newUser = this.userService.createUser(userDTO);
-        return new ResponseEntity<>(newUser, HttpStatus.CREATED);
+        return new ResponseEntity<>(UserResponseDTO.of(newUser), HttpStatus.CREATED);
+    }
+
+    @PostMapping(value = "/import", consumes = { "text/csv", "application/x-ndjson" })
+    public ResponseEntity<UserImportResultDTO> importUsers(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        Format format = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                ? Format.CSV
+                : Format.NDJSON;
+        return ResponseEntity.ok(this.userImportService.importUsers(body, format));
     }
 
     @GetMapping
-    public ResponseEntity<List<User>> getAllUsers() {
-        List<User> users = this.userService.getAllUsers();
+    public ResponseEntity<List<UserResponseDTO>> getAllUsers() {
+        List<UserResponseDTO> users = this.userService.getAllUsers();
         return new ResponseEntity<>(users, HttpStatus.OK);
     }
 
+    @GetMapping("/{id}/balance")
+    public ResponseEntity<UserBalanceDTO> getBalance(@PathVariable Long id,
+            @RequestParam(defaultValue = "eventual") String consistency) {
+        return ResponseEntity.ok(this.balanceView.findBalance(id, parseConsistency(consistency)));
+    }
+
+    @GetMapping("/{id}/transactions")
+    public ResponseEntity<StatementDTO> getStatement(@PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(this.transactionService.getStatement(id, cursor, limit));
+    }
+
+    private static BalanceConsistency parseConsistency(String value) {
+        try {
+            return BalanceConsistency.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "consistency must be eventual or strong, not: " + value);
+        }
+    }
 }
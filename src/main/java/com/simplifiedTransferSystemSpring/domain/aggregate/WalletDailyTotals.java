@@ -0,0 +1,46 @@
+package com.simplifiedTransferSystemSpring.domain.aggregate;
+
+import java.time.LocalDate;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Money sent and received by one wallet on one day, by the date of the
+ * transfer's {@code timestamp}.
+ */
+@Entity(name = "wallet_daily_totals")
+@Table(name = "wallet_daily_totals", indexes = @Index(name = "idx_wallet_daily_totals_day_received",
+        columnList = "bucket_day, receivedAmount"))
+@IdClass(WalletDay.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = { "walletId", "day" })
+public class WalletDailyTotals {
+    @Id
+    private Long walletId;
+
+    // "day" is a keyword in some databases
+    @Id
+    @Column(name = "bucket_day")
+    private LocalDate day;
+
+    private Money sentAmount;
+
+    private long sentCount;
+
+    private Money receivedAmount;
+
+    private long receivedCount;
+}
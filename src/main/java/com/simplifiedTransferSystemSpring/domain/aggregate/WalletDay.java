@@ -0,0 +1,21 @@
+package com.simplifiedTransferSystemSpring.domain.aggregate;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** Key of {@link WalletDailyTotals}. */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class WalletDay implements Serializable {
+
+    private Long walletId;
+
+    private LocalDate day;
+}
@@ -0,0 +1,35 @@
+package com.simplifiedTransferSystemSpring.domain.aggregate;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * All-time money sent and received by one wallet, kept up to date by every
+ * transfer instead of being summed from {@code transactions}.
+ */
+@Entity(name = "wallet_totals")
+@Table(name = "wallet_totals", indexes = @Index(name = "idx_wallet_totals_received", columnList = "receivedAmount"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "walletId")
+public class WalletTotals {
+    @Id
+    private Long walletId;
+
+    private Money sentAmount;
+
+    private long sentCount;
+
+    private Money receivedAmount;
+
+    private long receivedCount;
+}
@@ -0,0 +1,89 @@
+package com.simplifiedTransferSystemSpring.domain.idempotency;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Persistable;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A client-supplied {@code Idempotency-Key} and the transfer it produced.
+ * Written in the same database transaction as the transfer, so a key is
+ * stored exactly when the debit is. The response fields are copied here so
+ * a replay needs no join and also works for ledger-engine transfers.
+ * <p>
+ * The id is assigned by the client, so the entity reports itself as new
+ * until it is stored or loaded: saving a new key is always an INSERT, and a
+ * key committed meanwhile by another instance fails on the primary key
+ * instead of being merged over.
+ */
+@Entity(name = "idempotency_keys")
+@Table(name = "idempotency_keys", indexes = @Index(name = "idx_idempotency_keys_created_at", columnList = "createdAt"))
+@Getter
+@Setter
+@NoArgsConstructor
+@EqualsAndHashCode(of = "idempotencyKey")
+public class IdempotencyKey implements Persistable<String> {
+    @Id
+    private String idempotencyKey;
+
+    private String requestFingerprint;
+
+    private Long transactionId;
+
+    private Money amount;
+
+    private Long payerId;
+
+    private Long payeeId;
+
+    private LocalDateTime timestamp;
+
+    private LocalDateTime createdAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean stored;
+
+    public IdempotencyKey(String idempotencyKey, String requestFingerprint, Long transactionId, Money amount,
+            Long payerId, Long payeeId, LocalDateTime timestamp, LocalDateTime createdAt) {
+        this.idempotencyKey = idempotencyKey;
+        this.requestFingerprint = requestFingerprint;
+        this.transactionId = transactionId;
+        this.amount = amount;
+        this.payerId = payerId;
+        this.payeeId = payeeId;
+        this.timestamp = timestamp;
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String getId() {
+        return this.idempotencyKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !this.stored;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markStored() {
+        this.stored = true;
+    }
+}
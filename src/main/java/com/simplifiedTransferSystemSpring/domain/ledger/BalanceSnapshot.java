@@ -0,0 +1,55 @@
+package com.simplifiedTransferSystemSpring.domain.ledger;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * A wallet's balance from every posting claimed by snapshot {@code run} or
+ * an earlier one. The current balance is the latest snapshot plus the
+ * postings not claimed yet. Wallets without new postings in a run get no new
+ * row and keep their older snapshot.
+ */
+@Entity(name = "balance_snapshots")
+@Table(name = "balance_snapshots", indexes = @Index(name = "ux_balance_snapshots_wallet_run",
+        columnList = "walletId, run", unique = true))
+@Immutable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class BalanceSnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "balance_snapshots_seq")
+    @SequenceGenerator(name = "balance_snapshots_seq", sequenceName = "balance_snapshots_seq", allocationSize = 50)
+    private Long id;
+
+    private Long walletId;
+
+    private Money balance;
+
+    private long run;
+
+    private LocalDateTime takenAt;
+
+    public BalanceSnapshot(Long walletId, Money balance, long run, LocalDateTime takenAt) {
+        this.walletId = walletId;
+        this.balance = balance;
+        this.run = run;
+        this.takenAt = takenAt;
+    }
+}
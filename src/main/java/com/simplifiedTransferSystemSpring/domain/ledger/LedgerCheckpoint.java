@@ -0,0 +1,29 @@
+package com.simplifiedTransferSystemSpring.domain.ledger;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Highest journal sequence whose effects are already stored in the
+ * {@code users} and {@code transactions} tables. Single row, id {@link #SINGLETON_ID}.
+ */
+@Entity(name = "ledger_checkpoint")
+@Table(name = "ledger_checkpoint")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerCheckpoint {
+    public static final Long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    private long lastSequence;
+
+}
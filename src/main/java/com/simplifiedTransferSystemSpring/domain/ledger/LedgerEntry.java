@@ -0,0 +1,15 @@
+package com.simplifiedTransferSystemSpring.domain.ledger;
+
+import java.time.LocalDateTime;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+
+/**
+ * A transfer applied by the in-memory ledger engine, identified by a
+ * monotonically increasing journal sequence. The transaction id is taken
+ * from {@code transactions_seq} when the entry is created, so the transfer
+ * can be returned with the id its row will have once written.
+ */
+public record LedgerEntry(long sequence, Long transactionId, Long payerId, Long payeeId, Money amount,
+        LocalDateTime timestamp) {
+}
@@ -0,0 +1,68 @@
+package com.simplifiedTransferSystemSpring.domain.ledger;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * One side of a transfer in the append-only balance journal. A transfer is
+ * a signed pair, a negative {@code DEBIT} on the payer and a positive
+ * {@code CREDIT} on the payee; a wallet's starting balance is a single
+ * {@code OPENING} posting. The sum of a wallet's postings is its balance.
+ * {@code snapshotRun} is the only column written after the insert: the
+ * snapshot run that folded the posting into a {@link BalanceSnapshot}, or
+ * null while it is still part of the tail.
+ */
+@Entity(name = "ledger_postings")
+@Table(name = "ledger_postings", indexes = {
+        @Index(name = "idx_ledger_postings_wallet_snapshot_run", columnList = "walletId, snapshotRun"),
+        @Index(name = "idx_ledger_postings_snapshot_run_id", columnList = "snapshotRun, id")
+})
+@Immutable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class LedgerPosting {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ledger_postings_seq")
+    @SequenceGenerator(name = "ledger_postings_seq", sequenceName = "ledger_postings_seq", allocationSize = 50)
+    private Long id;
+
+    private Long walletId;
+
+    private Long transactionId;
+
+    @Enumerated(EnumType.STRING)
+    private PostingType type;
+
+    private Money amount;
+
+    private LocalDateTime postedAt;
+
+    private Long snapshotRun;
+
+    public LedgerPosting(Long walletId, Long transactionId, PostingType type, Money amount, LocalDateTime postedAt) {
+        this.walletId = walletId;
+        this.transactionId = transactionId;
+        this.type = type;
+        this.amount = amount;
+        this.postedAt = postedAt;
+    }
+}
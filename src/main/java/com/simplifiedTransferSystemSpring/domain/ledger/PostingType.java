@@ -0,0 +1,7 @@
+package com.simplifiedTransferSystemSpring.domain.ledger;
+
+public enum PostingType {
+    OPENING,
+    DEBIT,
+    CREDIT
+}
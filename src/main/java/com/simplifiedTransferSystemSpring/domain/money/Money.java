@@ -0,0 +1,66 @@
+package com.simplifiedTransferSystemSpring.domain.money;
+
+import java.math.BigDecimal;
+
+/**
+ * An amount of money held as a whole number of cents. Arithmetic is exact
+ * and throws {@link ArithmeticException} on {@code long} overflow instead of
+ * wrapping; comparisons work on the primitive and never allocate.
+ * Amounts with more than two decimal places are rejected, never rounded.
+ */
+public record Money(long cents) implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    private static final int SCALE = 2;
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    public static Money of(BigDecimal amount) {
+        try {
+            return ofCents(amount.movePointRight(SCALE).longValueExact());
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("Not a cent amount within range: " + amount.toPlainString());
+        }
+    }
+
+    public static Money parse(String amount) {
+        return of(new BigDecimal(amount));
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(this.cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(this.cents, other.cents));
+    }
+
+    public Money negate() {
+        return ofCents(Math.negateExact(this.cents));
+    }
+
+    public int signum() {
+        return Long.signum(this.cents);
+    }
+
+    public boolean isLessThan(Money other) {
+        return this.cents < other.cents;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(this.cents, other.cents);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(this.cents, SCALE);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
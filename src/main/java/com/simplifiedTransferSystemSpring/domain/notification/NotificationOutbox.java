@@ -0,0 +1,80 @@
+package com.simplifiedTransferSystemSpring.domain.notification;
+
+import java.time.LocalDateTime;
+
+import com.simplifiedTransferSystemSpring.domain.transaction.Transaction;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Notification waiting to be delivered for a committed transaction.
+ * Rows are written in the same database transaction as the transfer and
+ * drained later by the {@code NotificationDispatcher}.
+ */
+@Entity(name = "notification_outbox")
+@Table(name = "notification_outbox", indexes = @Index(name = "idx_outbox_status_next_attempt",
+        columnList = "status, nextAttemptAt, id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class NotificationOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_outbox_seq")
+    @SequenceGenerator(name = "notification_outbox_seq", sequenceName = "notification_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "transaction_id")
+    private Transaction transaction;
+
+    @Enumerated(EnumType.STRING)
+    private NotificationRecipient recipient;
+
+    private String email;
+
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    private NotificationStatus status = NotificationStatus.PENDING;
+
+    private int attempts = 0;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    // not picked up by the dispatcher before this time; pushed back while claimed and after every failed round
+    private LocalDateTime nextAttemptAt;
+
+    // set by the dispatcher run that claimed the row; its outcome is only recorded under the same token
+    private String claimToken;
+
+    public NotificationOutbox(Transaction transaction, NotificationRecipient recipient, String email, String message) {
+        this.transaction = transaction;
+        this.recipient = recipient;
+        this.email = email;
+        this.message = message;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+        this.nextAttemptAt = this.createdAt;
+    }
+
+}
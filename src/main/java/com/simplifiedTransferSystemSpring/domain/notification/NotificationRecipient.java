@@ -0,0 +1,6 @@
+package com.simplifiedTransferSystemSpring.domain.notification;
+
+public enum NotificationRecipient {
+    PAYER,
+    PAYEE
+}
@@ -0,0 +1,7 @@
+package com.simplifiedTransferSystemSpring.domain.notification;
+
+public enum NotificationStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,7 @@
+package com.simplifiedTransferSystemSpring.domain.transaction;
+
+public enum BatchItemStatus {
+    APPLIED,
+    REJECTED,
+    SKIPPED
+}
@@ -0,0 +1,6 @@
+package com.simplifiedTransferSystemSpring.domain.transaction;
+
+public enum BatchMode {
+    ALL_OR_NOTHING,
+    BEST_EFFORT
+}
@@ -1,15 +1,18 @@
 package com.simplifiedTransferSystemSpring.domain.transaction;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import com.simplifiedTransferSystemSpring.domain.money.Money;
 import com.simplifiedTransferSystemSpring.domain.user.User;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -18,18 +21,24 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity(name = "transactions")
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+        @Index(name = "idx_transactions_timestamp_id", columnList = "timestamp, id"),
+        @Index(name = "idx_transactions_payer_timestamp", columnList = "payer_id, timestamp, id"),
+        @Index(name = "idx_transactions_payee_timestamp", columnList = "payee_id, timestamp, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(of = "id")
 public class Transaction {
+    // sequence ids (allocated 50 at a time) keep inserts eligible for JDBC batching
     @Id
-    @GeneratedValue(strategy = jakarta.persistence.GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transactions_seq")
+    @SequenceGenerator(name = "transactions_seq", sequenceName = "transactions_seq", allocationSize = 50)
     private Long id;
 
-    private BigDecimal amount;
+    private Money amount;
 
     @ManyToOne
     @JoinColumn(name = "payer_id")
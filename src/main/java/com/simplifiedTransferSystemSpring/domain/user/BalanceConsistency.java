@@ -0,0 +1,6 @@
+package com.simplifiedTransferSystemSpring.domain.user;
+
+public enum BalanceConsistency {
+    EVENTUAL,
+    STRONG
+}
@@ -7,6 +7,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -14,8 +15,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-import java.math.BigDecimal;
-
+import com.simplifiedTransferSystemSpring.domain.money.Money;
 import com.simplifiedTransferSystemSpring.dtos.UserDTO;
 
 @Entity(name = "users")
@@ -27,7 +27,8 @@ import com.simplifiedTransferSystemSpring.dtos.UserDTO;
 @NoArgsConstructor
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     private String firstName;
@@ -42,7 +43,7 @@ public class User {
 
     private String password;
 
-    private BigDecimal balance;
+    private Money balance;
 
     @Enumerated(EnumType.STRING)
     private UserType userType;
@@ -0,0 +1,8 @@
+package com.simplifiedTransferSystemSpring.domain.user;
+
+/**
+ * The attributes of a user that never change after creation. Safe to cache;
+ * the balance is deliberately not part of it.
+ */
+public record UserProfile(Long id, String firstName, String lastName, String email, UserType userType) {
+}
@@ -0,0 +1,4 @@
+package com.simplifiedTransferSystemSpring.dtos;
+
+public record AggregateRebuildDTO(long wallets, long elapsedMillis) {
+}
@@ -0,0 +1,12 @@
+package com.simplifiedTransferSystemSpring.dtos;
+
+public record AuthorizationMetricsDTO(
+        String circuitState,
+        long hits,
+        long misses,
+        long trips,
+        long rejected,
+        long calls,
+        double averageLatencyMillis,
+        double recentLatencyMillis) {
+}
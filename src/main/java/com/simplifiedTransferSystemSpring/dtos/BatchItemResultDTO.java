@@ -0,0 +1,11 @@
+package com.simplifiedTransferSystemSpring.dtos;
+
+import com.simplifiedTransferSystemSpring.domain.transaction.BatchItemStatus;
+
+/**
+ * Outcome of one transfer in a batch, by its position in the request.
+ * {@code SKIPPED} marks valid transfers left out because an all-or-nothing
+ * batch had a rejected item.
+ */
+public record BatchItemResultDTO(int index, BatchItemStatus status, Long transactionId, String error) {
+}
@@ -0,0 +1,12 @@
+package com.simplifiedTransferSystemSpring.dtos;
+
+import java.util.List;
+
+import com.simplifiedTransferSystemSpring.domain.transaction.BatchMode;
+
+/**
+ * Transfers submitted together. Without a {@code mode} the batch is
+ * {@link BatchMode#ALL_OR_NOTHING}.
+ */
+public record BatchTransferDTO(BatchMode mode, List<TransactionDTO> transfers) {
+}
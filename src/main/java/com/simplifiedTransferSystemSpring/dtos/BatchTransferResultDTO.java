@@ -0,0 +1,8 @@
+package com.simplifiedTransferSystemSpring.dtos;
+
+import java.util.List;
+
+import com.simplifiedTransferSystemSpring.domain.transaction.BatchMode;
+
+public record BatchTransferResultDTO(BatchMode mode, int applied, int rejected, List<BatchItemResultDTO> items) {
+}
@@ -0,0 +1,45 @@
+package com.simplifiedTransferSystemSpring.dtos;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.infra.CursorSigner;
+
+/**
+ * Keyset position in one user's statement plus the running balance just
+ * before it, so later pages continue the balance without rescanning newer
+ * entries. The token is signed, since the balance is taken from it as is.
+ */
+public record StatementCursor(Long userId, LocalDateTime timestamp, Long id, Money balance) {
+
+    public String encode(CursorSigner signer) {
+        String raw = this.userId + "|" + this.timestamp + "|" + this.id + "|" + this.balance.cents();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8))
+                + "." + signer.sign(raw);
+    }
+
+    // 400 for a malformed token, one not signed here, or one from another user's statement
+    public static StatementCursor decode(String token, Long userId, CursorSigner signer) {
+        try {
+            int dot = token.indexOf('.');
+            String raw = new String(Base64.getUrlDecoder().decode(token.substring(0, dot)), StandardCharsets.UTF_8);
+            if (!signer.verify(raw, token.substring(dot + 1))) {
+                throw new IllegalArgumentException("signature mismatch");
+            }
+            String[] parts = raw.split("\\|");
+            StatementCursor cursor = new StatementCursor(Long.valueOf(parts[0]), LocalDateTime.parse(parts[1]),
+                    Long.valueOf(parts[2]), Money.ofCents(Long.parseLong(parts[3])));
+            if (!cursor.userId().equals(userId)) {
+                throw new IllegalArgumentException("cursor of another user");
+            }
+            return cursor;
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor.");
+        }
+    }
+}
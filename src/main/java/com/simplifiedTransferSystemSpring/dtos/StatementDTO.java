@@ -0,0 +1,6 @@
+package com.simplifiedTransferSystemSpring.dtos;
+
+import java.util.List;
+
+public record StatementDTO(Long userId, List<StatementEntryDTO> entries, String nextCursor) {
+}
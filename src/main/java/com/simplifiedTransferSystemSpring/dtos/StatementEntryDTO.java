@@ -0,0 +1,18 @@
+package com.simplifiedTransferSystemSpring.dtos;
+
+import java.time.LocalDateTime;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+
+/**
+ * One line of a user's statement. {@code amount} is signed from the user's
+ * point of view and {@code balanceAfter} is the balance right after it.
+ */
+public record StatementEntryDTO(
+        Long transactionId,
+        LocalDateTime timestamp,
+        String direction,
+        Long counterpartyId,
+        Money amount,
+        Money balanceAfter) {
+}
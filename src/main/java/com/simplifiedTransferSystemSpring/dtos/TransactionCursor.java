@@ -0,0 +1,35 @@
+package com.simplifiedTransferSystemSpring.dtos;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Keyset position in the history, ordered by {@code (timestamp, id)}
+ * descending. Travels to clients as an opaque base64url token.
+ */
+public record TransactionCursor(LocalDateTime timestamp, Long id) {
+
+    public static TransactionCursor of(TransactionSummaryDTO last) {
+        return new TransactionCursor(last.timestamp(), last.id());
+    }
+
+    public String encode() {
+        String raw = this.timestamp + "|" + this.id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new TransactionCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor.");
+        }
+    }
+}
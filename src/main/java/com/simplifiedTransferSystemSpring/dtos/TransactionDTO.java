@@ -1,7 +1,7 @@
 package com.simplifiedTransferSystemSpring.dtos;
 
-import java.math.BigDecimal;
+import com.simplifiedTransferSystemSpring.domain.money.Money;
 
-public record TransactionDTO(BigDecimal value, Long payerId, Long payeeId) {
+public record TransactionDTO(Money value, Long payerId, Long payeeId) {
 
 }
@@ -0,0 +1,10 @@
+package com.simplifiedTransferSystemSpring.dtos;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional history filters; {@code null} fields are ignored. The time range
+ * is {@code [from, to)}.
+ */
+public record TransactionFilter(Long payerId, Long payeeId, LocalDateTime from, LocalDateTime to) {
+}
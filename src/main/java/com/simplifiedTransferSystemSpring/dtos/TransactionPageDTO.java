@@ -0,0 +1,10 @@
+package com.simplifiedTransferSystemSpring.dtos;
+
+import java.util.List;
+
+/**
+ * One page of transaction history. {@code nextCursor} is {@code null} on the
+ * last page; otherwise pass it back as {@code cursor} to get the next one.
+ */
+public record TransactionPageDTO(List<TransactionSummaryDTO> items, String nextCursor) {
+}
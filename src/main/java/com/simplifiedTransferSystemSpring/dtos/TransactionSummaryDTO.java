@@ -0,0 +1,22 @@
+package com.simplifiedTransferSystemSpring.dtos;
+
+import java.time.LocalDateTime;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.domain.transaction.Transaction;
+
+public record TransactionSummaryDTO(
+        Long id,
+        Money amount,
+        Long payerId,
+        Long payeeId,
+        LocalDateTime timestamp,
+        boolean payerNotified,
+        boolean payeeNotified) {
+
+    public static TransactionSummaryDTO of(Transaction transaction) {
+        return new TransactionSummaryDTO(transaction.getId(), transaction.getAmount(),
+                transaction.getPayer().getId(), transaction.getPayee().getId(), transaction.getTimestamp(),
+                transaction.isPayerNotified(), transaction.isPayeeNotified());
+    }
+}
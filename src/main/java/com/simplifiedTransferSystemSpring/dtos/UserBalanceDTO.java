@@ -0,0 +1,17 @@
+package com.simplifiedTransferSystemSpring.dtos;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.domain.user.BalanceConsistency;
+
+/**
+ * A wallet balance as served by {@code GET /users/{id}/balance}.
+ * {@code version} orders the committed transfers seen by the in-memory
+ * view; it is {@code null} when the balance was read from the database or
+ * the ledger engine.
+ */
+public record UserBalanceDTO(
+        Long userId,
+        Money balance,
+        BalanceConsistency consistency,
+        Long version) {
+}
@@ -1,14 +1,13 @@
 package com.simplifiedTransferSystemSpring.dtos;
 
-import java.math.BigDecimal;
-
+import com.simplifiedTransferSystemSpring.domain.money.Money;
 import com.simplifiedTransferSystemSpring.domain.user.UserType;
 
 public record UserDTO(
                 String firstName,
                 String lastName,
                 String document,
-                BigDecimal balance,
+                Money balance,
                 String password,
                 String email,
                 UserType userType) {
@@ -0,0 +1,8 @@
+package com.simplifiedTransferSystemSpring.dtos;
+
+/**
+ * A rejected row of a bulk import, by its line number in the uploaded file
+ * (the CSV header is line 1).
+ */
+public record UserImportErrorDTO(long line, String error) {
+}
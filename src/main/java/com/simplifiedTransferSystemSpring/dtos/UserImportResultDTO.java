@@ -0,0 +1,11 @@
+package com.simplifiedTransferSystemSpring.dtos;
+
+import java.util.List;
+
+/**
+ * Totals of a bulk import. {@code errors} lists at most
+ * {@code users.import.max-reported-errors} rows; {@code rejected} counts
+ * them all.
+ */
+public record UserImportResultDTO(long imported, long rejected, List<UserImportErrorDTO> errors) {
+}
@@ -0,0 +1,23 @@
+package com.simplifiedTransferSystemSpring.dtos;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.domain.user.User;
+import com.simplifiedTransferSystemSpring.domain.user.UserType;
+
+/**
+ * What the API exposes about a user. Credentials and the document number
+ * never leave the service.
+ */
+public record UserResponseDTO(
+        Long id,
+        String firstName,
+        String lastName,
+        String email,
+        UserType userType,
+        Money balance) {
+
+    public static UserResponseDTO of(User user) {
+        return new UserResponseDTO(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail(),
+                user.getUserType(), user.getBalance());
+    }
+}
@@ -0,0 +1,9 @@
+package com.simplifiedTransferSystemSpring.dtos;
+
+import java.time.LocalDate;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+
+public record WalletDailyTotalsDTO(Long walletId, LocalDate day, Money sentAmount, long sentCount,
+        Money receivedAmount, long receivedCount) {
+}
@@ -0,0 +1,7 @@
+package com.simplifiedTransferSystemSpring.dtos;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+
+public record WalletTotalsDTO(Long walletId, Money sentAmount, long sentCount, Money receivedAmount,
+        long receivedCount) {
+}
@@ -1,19 +1,91 @@
 package com.simplifiedTransferSystemSpring.infra;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.JdkClientHttpConnector;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
 
 @Configuration
+@EnableScheduling
+@EnableConfigurationProperties({ AuthorizerProperties.class, HttpClientProperties.class, IdempotencyProperties.class,
+        NotificationProperties.class, StubServerProperties.class, TransferAdmissionProperties.class })
 public class AppConfig {
-    
+
+    @Bean
+    public CloseableHttpClient pooledHttpClient(HttpClientProperties properties) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(properties.connectTimeoutMs()))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(properties.validateAfterInactivitySeconds()))
+                .build();
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.maxConnections())
+                .setMaxConnPerRoute(properties.maxConnectionsPerRoute())
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+        // a Keep-Alive header from the server still wins over this default
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setDefaultKeepAlive(properties.keepAliveSeconds(), TimeUnit.SECONDS)
+                .build();
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(properties.idleEvictionSeconds()))
+                .build();
+    }
+
+    @Bean
+    public MoneyJacksonModule moneyJacksonModule() {
+        return new MoneyJacksonModule();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        // sensible defaults to avoid indefinitely blocked threads
-        factory.setConnectTimeout(2000); // 2s
-        factory.setReadTimeout(5000); // 5s
-        return new RestTemplate(factory);
+    public CursorSigner statementCursorSigner(@Value("${statement.cursor-secret:}") String secret) {
+        return new CursorSigner(secret);
+    }
+
+    @Bean
+    public RestTemplate authorizerRestTemplate(CloseableHttpClient pooledHttpClient, HttpClientProperties properties,
+            AuthorizerProperties authorizerProperties) {
+        // tighter read timeout so several attempts fit in authorizer.timeout-budget-ms
+        return new RestTemplate(requestFactory(pooledHttpClient, properties, authorizerProperties.readTimeoutMs()));
+    }
+
+    @Bean
+    public WebClient notificationWebClient(HttpClientProperties properties) {
+        // non-blocking JDK client; no thread is held while a notification is in flight. It keeps its own
+        // connections, so only the connect timeout comes from http.client.* and notification.max-in-flight
+        // bounds how many are open
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(properties.connectTimeoutMs()))
+                .build();
+        return WebClient.builder()
+                .clientConnector(new JdkClientHttpConnector(httpClient))
+                .build();
+    }
+
+    private HttpComponentsClientHttpRequestFactory requestFactory(CloseableHttpClient httpClient,
+            HttpClientProperties properties, int readTimeoutMs) {
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        factory.setConnectionRequestTimeout(properties.connectionRequestTimeoutMs());
+        factory.setReadTimeout(readTimeoutMs);
+        return factory;
     }
-} 
+}
@@ -0,0 +1,28 @@
+package com.simplifiedTransferSystemSpring.infra;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the external transaction authorizer ({@code authorizer.*}).
+ *
+ * @param url               authorizer endpoint
+ * @param maxAttempts       attempts per authorization, including the first
+ * @param timeoutBudgetMs   wall-clock budget shared by all attempts
+ * @param backoffMs         base pause between attempts, multiplied by the attempt number
+ * @param readTimeoutMs     per-attempt read timeout
+ * @param failureThreshold  consecutive failed authorizations that open the circuit
+ * @param openDurationMs    how long the circuit stays open before a half-open probe
+ * @param cacheTtlMs        how long a successful decision is reused, {@code 0} disables caching
+ */
+@ConfigurationProperties(prefix = "authorizer")
+public record AuthorizerProperties(
+        @DefaultValue("https://util.devi.tools/api/v2/authorize") String url,
+        @DefaultValue("3") int maxAttempts,
+        @DefaultValue("3000") long timeoutBudgetMs,
+        @DefaultValue("50") long backoffMs,
+        @DefaultValue("2000") int readTimeoutMs,
+        @DefaultValue("5") int failureThreshold,
+        @DefaultValue("5000") long openDurationMs,
+        @DefaultValue("0") long cacheTtlMs) {
+}
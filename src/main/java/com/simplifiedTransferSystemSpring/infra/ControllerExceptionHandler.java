@@ -2,8 +2,10 @@ package com.simplifiedTransferSystemSpring.infra;
 
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
 
 import com.simplifiedTransferSystemSpring.dtos.ExceptionDTO;
 
@@ -23,6 +25,19 @@ public class ControllerExceptionHandler {
         return ResponseEntity.notFound().build();
     }
 
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ExceptionDTO> threatUnreadableBody(HttpMessageNotReadableException exception) {
+        ExceptionDTO exceptionDTO = new ExceptionDTO("Malformed request body.", "400");
+        return ResponseEntity.badRequest().body(exceptionDTO);
+    }
+
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ExceptionDTO> threatResponseStatus(ResponseStatusException exception) {
+        ExceptionDTO exceptionDTO = new ExceptionDTO(exception.getReason(),
+                String.valueOf(exception.getStatusCode().value()));
+        return ResponseEntity.status(exception.getStatusCode()).headers(exception.getHeaders()).body(exceptionDTO);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ExceptionDTO> threatGeneralException(Exception exception) {
         ExceptionDTO exceptionDTO = new ExceptionDTO(exception.getMessage(), "500");
@@ -0,0 +1,65 @@
+package com.simplifiedTransferSystemSpring.infra;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * HMAC-SHA256 over pagination cursors that carry server state, so a client
+ * can hand a cursor back but cannot alter it. Without a configured secret
+ * a random per-process key is used, and cursors stop verifying after a
+ * restart or on another instance.
+ */
+public class CursorSigner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CursorSigner.class);
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+
+    public CursorSigner(String secret) {
+        byte[] bytes;
+        if (secret == null || secret.isBlank()) {
+            logger.warn("No cursor secret configured; signed cursors will not survive a restart or another instance");
+            bytes = new byte[32];
+            new SecureRandom().nextBytes(bytes);
+        } else {
+            bytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(bytes, ALGORITHM);
+    }
+
+    public String sign(String payload) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(mac(payload));
+    }
+
+    public boolean verify(String payload, String signature) {
+        byte[] expected;
+        try {
+            expected = Base64.getUrlDecoder().decode(signature);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return MessageDigest.isEqual(mac(payload), expected);
+    }
+
+    private byte[] mac(String payload) {
+        try {
+            // Mac instances are not thread-safe and cheap to create
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(this.key);
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot compute " + ALGORITHM, e);
+        }
+    }
+}
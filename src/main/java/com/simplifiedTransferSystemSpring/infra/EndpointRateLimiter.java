@@ -0,0 +1,32 @@
+package com.simplifiedTransferSystemSpring.infra;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Spaces out the requests started against each endpoint so that at most
+ * {@code ratePerSecond} begin per second. A caller gets back how long to
+ * wait for its slot instead of being blocked, so waiting costs no thread.
+ * Idle time does not build up credit for a later burst.
+ */
+public class EndpointRateLimiter {
+
+    private final long intervalNanos;
+    private final Map<String, AtomicLong> nextSlot = new ConcurrentHashMap<>();
+
+    public EndpointRateLimiter(double ratePerSecond) {
+        this.intervalNanos = ratePerSecond > 0 ? (long) (1_000_000_000L / ratePerSecond) : 0;
+    }
+
+    public Duration reserve(String endpoint) {
+        if (this.intervalNanos == 0) {
+            return Duration.ZERO;
+        }
+        long now = System.nanoTime();
+        long slot = this.nextSlot.computeIfAbsent(endpoint, key -> new AtomicLong(now))
+                .getAndUpdate(next -> Math.max(next, now) + this.intervalNanos);
+        return Duration.ofNanos(Math.max(0, slot - now));
+    }
+}
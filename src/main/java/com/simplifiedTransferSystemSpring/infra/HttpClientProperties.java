@@ -0,0 +1,28 @@
+package com.simplifiedTransferSystemSpring.infra;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Pooled outbound HTTP client ({@code http.client.*}) behind the authorizer's
+ * {@code RestTemplate}. The notification {@code WebClient} runs on the JDK
+ * client and only takes {@code connectTimeoutMs} from here.
+ *
+ * @param maxConnections                 connections kept across all routes
+ * @param maxConnectionsPerRoute         connections kept per target host
+ * @param connectTimeoutMs               TCP connect timeout
+ * @param connectionRequestTimeoutMs     how long a call waits for a free pooled connection
+ * @param keepAliveSeconds               keep-alive used when the server does not send one
+ * @param idleEvictionSeconds            idle connections older than this are closed
+ * @param validateAfterInactivitySeconds idle time after which a connection is checked before reuse
+ */
+@ConfigurationProperties(prefix = "http.client")
+public record HttpClientProperties(
+        @DefaultValue("200") int maxConnections,
+        @DefaultValue("50") int maxConnectionsPerRoute,
+        @DefaultValue("2000") int connectTimeoutMs,
+        @DefaultValue("500") int connectionRequestTimeoutMs,
+        @DefaultValue("30") long keepAliveSeconds,
+        @DefaultValue("60") long idleEvictionSeconds,
+        @DefaultValue("10") long validateAfterInactivitySeconds) {
+}
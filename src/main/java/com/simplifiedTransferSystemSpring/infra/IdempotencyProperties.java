@@ -0,0 +1,20 @@
+package com.simplifiedTransferSystemSpring.infra;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for {@code Idempotency-Key} handling ({@code idempotency.*}).
+ *
+ * @param cacheMaxEntries  keys kept in memory, least recently used evicted first
+ * @param cacheTtlSeconds  how long a key stays in memory before falling back to the table
+ * @param retentionHours   how long keys are kept in the table
+ * @param purgeIntervalMs  how often expired keys are deleted from the table
+ */
+@ConfigurationProperties(prefix = "idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("10000") int cacheMaxEntries,
+        @DefaultValue("600") long cacheTtlSeconds,
+        @DefaultValue("24") long retentionHours,
+        @DefaultValue("3600000") long purgeIntervalMs) {
+}
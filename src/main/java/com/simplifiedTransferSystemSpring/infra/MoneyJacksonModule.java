@@ -0,0 +1,63 @@
+package com.simplifiedTransferSystemSpring.infra;
+
+import java.math.BigDecimal;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.deser.std.StdDeserializer;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Keeps the JSON shape of amounts unchanged: {@link Money} is written as a
+ * decimal number such as {@code 10.50} and read from a number or a numeric
+ * string. Spring Boot registers it on the application's {@code JsonMapper}.
+ */
+public class MoneyJacksonModule extends SimpleModule {
+
+    public MoneyJacksonModule() {
+        super("MoneyJacksonModule");
+        addSerializer(Money.class, new MoneySerializer());
+        addDeserializer(Money.class, new MoneyDeserializer());
+    }
+
+    static class MoneySerializer extends StdSerializer<Money> {
+
+        MoneySerializer() {
+            super(Money.class);
+        }
+
+        @Override
+        public void serialize(Money value, JsonGenerator gen, SerializationContext provider) {
+            gen.writeNumber(value.toBigDecimal());
+        }
+    }
+
+    static class MoneyDeserializer extends StdDeserializer<Money> {
+
+        MoneyDeserializer() {
+            super(Money.class);
+        }
+
+        @Override
+        public Money deserialize(JsonParser p, DeserializationContext ctxt) {
+            try {
+                if (p.hasToken(JsonToken.VALUE_STRING)) {
+                    return Money.of(new BigDecimal(p.getString().trim()));
+                }
+                if (p.currentToken().isNumeric()) {
+                    return Money.of(p.getDecimalValue());
+                }
+            } catch (ArithmeticException | NumberFormatException e) {
+                return (Money) ctxt.handleWeirdStringValue(Money.class, p.getString(),
+                        "amounts need at most two decimal places");
+            }
+            return (Money) ctxt.handleUnexpectedToken(Money.class, p);
+        }
+    }
+}
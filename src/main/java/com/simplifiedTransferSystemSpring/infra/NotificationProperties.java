@@ -0,0 +1,28 @@
+package com.simplifiedTransferSystemSpring.infra;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the non-blocking notification sender ({@code notification.*}).
+ *
+ * @param url           notify endpoint
+ * @param maxAttempts   attempts per notification, including the first
+ * @param backoffMs     first retry delay, doubled on every further retry
+ * @param maxBackoffMs  upper bound for a single retry delay
+ * @param jitter        random share of each retry delay, between 0 and 1
+ * @param timeoutMs     per-attempt response timeout
+ * @param maxInFlight   notify requests open at the same time
+ * @param ratePerSecond requests started per second against one endpoint, retries included
+ */
+@ConfigurationProperties(prefix = "notification")
+public record NotificationProperties(
+        @DefaultValue("https://util.devi.tools/api/v1/notify") String url,
+        @DefaultValue("3") int maxAttempts,
+        @DefaultValue("100") long backoffMs,
+        @DefaultValue("2000") long maxBackoffMs,
+        @DefaultValue("0.5") double jitter,
+        @DefaultValue("3000") long timeoutMs,
+        @DefaultValue("16") int maxInFlight,
+        @DefaultValue("50") double ratePerSecond) {
+}
@@ -0,0 +1,85 @@
+package com.simplifiedTransferSystemSpring.infra;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket per payer, kept as a single {@code AtomicLong} holding the
+ * time at which the bucket will be full again (the GCRA form of a token
+ * bucket). Taking a token is one compare-and-set; no lock is held.
+ * <p>
+ * Buckets live in a fixed number of map stripes so that idle ones can be
+ * swept one stripe at a time. A bucket is only dropped once it has been
+ * full for {@code idleEvictNanos}, when it is indistinguishable from a new
+ * one, so eviction never hands a payer extra tokens beyond the one request
+ * that may race with the removal.
+ */
+public class PayerRateLimiter {
+
+    private final long intervalNanos;
+    private final long capacityNanos;
+    private final long idleEvictNanos;
+    private final ConcurrentHashMap<Long, AtomicLong>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    public PayerRateLimiter(double ratePerSecond, int burst, int stripes, long idleEvictNanos) {
+        this.intervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        this.capacityNanos = this.intervalNanos * Math.max(1, burst);
+        this.idleEvictNanos = idleEvictNanos;
+        this.stripes = new ConcurrentHashMap[Math.max(1, stripes)];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * Takes a token for {@code payerId}.
+     *
+     * @return 0 if the request may proceed, otherwise the nanoseconds until
+     *         a token is available
+     */
+    public long tryAcquire(long payerId, long nowNanos) {
+        AtomicLong fullAt = stripe(payerId).computeIfAbsent(payerId, key -> new AtomicLong(nowNanos));
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + this.intervalNanos;
+            long excess = next - nowNanos - this.capacityNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Drops the buckets of stripe {@code index} that have been full for at
+     * least the idle period.
+     *
+     * @return the number of buckets removed
+     */
+    public int evictIdle(int index, long nowNanos) {
+        ConcurrentHashMap<Long, AtomicLong> stripe = this.stripes[Math.floorMod(index, this.stripes.length)];
+        int before = stripe.size();
+        stripe.values().removeIf(fullAt -> nowNanos - fullAt.get() >= this.idleEvictNanos);
+        return before - stripe.size();
+    }
+
+    public int stripeCount() {
+        return this.stripes.length;
+    }
+
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<Long, AtomicLong> stripe : this.stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private ConcurrentHashMap<Long, AtomicLong> stripe(long payerId) {
+        // spread the bits so sequential ids do not all land in neighbouring stripes
+        return this.stripes[Math.floorMod(Long.hashCode(payerId * 0x9E3779B97F4A7C15L), this.stripes.length)];
+    }
+}
@@ -0,0 +1,27 @@
+package com.simplifiedTransferSystemSpring.infra;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * A {@link ResponseStatusException} that also tells the client when to try
+ * again, through the {@code Retry-After} header (whole seconds, rounded up).
+ */
+public class RetryLaterException extends ResponseStatusException {
+
+    private final HttpHeaders headers = new HttpHeaders();
+
+    public RetryLaterException(HttpStatus status, String reason, Duration retryAfter) {
+        super(status, reason);
+        long seconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        this.headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return this.headers;
+    }
+}
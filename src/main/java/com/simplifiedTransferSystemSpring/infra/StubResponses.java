@@ -0,0 +1,61 @@
+package com.simplifiedTransferSystemSpring.infra;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.sun.net.httpserver.HttpExchange;
+
+/**
+ * Request and response handling shared by the JDK {@code HttpServer} stubs:
+ * the embedded {@link StubServer} of the {@code loadtest} profile and the
+ * stub the tests start. Each stub only decides what to answer.
+ * <p>
+ * Both expect the JVM to run with {@code -Dsun.net.httpserver.nodelay=true};
+ * without TCP_NODELAY, Nagle plus delayed ACKs add ~40ms to every response.
+ * The JDK reads it once, so it is a launch argument rather than a property.
+ */
+public final class StubResponses {
+
+    private StubResponses() {
+    }
+
+    /**
+     * Reads the request body to the end, then waits {@code delayMillis}.
+     *
+     * @return false if interrupted while waiting, in which case the exchange
+     *         is closed without a response
+     */
+    public static boolean receive(HttpExchange exchange, long delayMillis) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            in.readAllBytes();
+        }
+        if (delayMillis > 0) {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                exchange.close();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sends {@code status} with a JSON {@code body}, or with no body at all
+     * when it is null.
+     */
+    public static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
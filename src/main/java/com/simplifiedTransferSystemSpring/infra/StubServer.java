@@ -0,0 +1,99 @@
+package com.simplifiedTransferSystemSpring.infra;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Local stand-in for the external authorizer and notifier, on its own port
+ * and threads so it does not compete with the application's request
+ * workers. Answers {@code GET /api/v2/authorize} and
+ * {@code POST /api/v1/notify} the way the real services do, after the
+ * configured latency, failing or denying the configured share of requests.
+ * Started by the {@code loadtest} profile; see {@link StubResponses} for the
+ * JVM option it expects.
+ */
+@Component
+@ConditionalOnProperty(name = "stub.enabled", havingValue = "true")
+public class StubServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(StubServer.class);
+
+    private static final byte[] AUTHORIZED = "{\"status\":\"success\",\"data\":{\"authorization\":true}}"
+            .getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DENIED = "{\"status\":\"fail\",\"data\":{\"authorization\":false}}"
+            .getBytes(StandardCharsets.UTF_8);
+    private static final byte[] UNAVAILABLE = "{\"status\":\"error\",\"message\":\"stub failure\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final StubServerProperties properties;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public StubServer(StubServerProperties properties) {
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", this.properties.port()), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start the stub on port " + this.properties.port(), e);
+        }
+        this.executor = Executors.newFixedThreadPool(this.properties.threads());
+        this.server.setExecutor(this.executor);
+        this.server.createContext("/api/v2/authorize", exchange -> respond(exchange, true));
+        this.server.createContext("/api/v1/notify", exchange -> respond(exchange, false));
+        this.server.start();
+        logger.info("Stub authorizer/notifier on port {}: latency {}+{} ms, failure rate {}, deny rate {}",
+                port(), this.properties.latencyMs(), this.properties.latencyJitterMs(),
+                this.properties.failureRate(), this.properties.denyRate());
+    }
+
+    @PreDestroy
+    public void stop() {
+        this.server.stop(0);
+        this.executor.shutdownNow();
+    }
+
+    public int port() {
+        return this.server.getAddress().getPort();
+    }
+
+    private void respond(HttpExchange exchange, boolean authorize) throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delay = this.properties.latencyMs()
+                + (this.properties.latencyJitterMs() > 0 ? random.nextLong(this.properties.latencyJitterMs() + 1) : 0);
+        if (!StubResponses.receive(exchange, delay)) {
+            return;
+        }
+
+        if (random.nextDouble() < this.properties.failureRate()) {
+            StubResponses.send(exchange, 503, UNAVAILABLE);
+        } else if (!authorize) {
+            StubResponses.send(exchange, 204, null);
+        } else if (random.nextDouble() < this.properties.denyRate()) {
+            // the real authorizer denies with 403 and this body
+            StubResponses.send(exchange, 403, DENIED);
+        } else {
+            StubResponses.send(exchange, 200, AUTHORIZED);
+        }
+    }
+}
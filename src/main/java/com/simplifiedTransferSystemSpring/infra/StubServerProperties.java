@@ -0,0 +1,27 @@
+package com.simplifiedTransferSystemSpring.infra;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the embedded authorizer/notifier stub ({@code stub.*}), used
+ * to load test without reaching the real services.
+ *
+ * @param enabled         starts the stub alongside the application
+ * @param port            port the stub listens on, separate from the application's
+ * @param latencyMs       fixed delay before every response
+ * @param latencyJitterMs extra random delay, uniform between 0 and this value
+ * @param failureRate     share of requests answered with 503, between 0 and 1
+ * @param denyRate        share of authorizations answered with a denial, between 0 and 1
+ * @param threads         requests the stub serves at the same time
+ */
+@ConfigurationProperties(prefix = "stub")
+public record StubServerProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("8089") int port,
+        @DefaultValue("50") long latencyMs,
+        @DefaultValue("0") long latencyJitterMs,
+        @DefaultValue("0") double failureRate,
+        @DefaultValue("0") double denyRate,
+        @DefaultValue("200") int threads) {
+}
@@ -0,0 +1,27 @@
+package com.simplifiedTransferSystemSpring.infra;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for admission control on {@code POST /transactions}
+ * ({@code transfer.admission.*}).
+ *
+ * @param enabled         turns both limits off when false
+ * @param ratePerSecond   sustained transfers per second allowed for one payer
+ * @param burst           transfers one payer may send at once after being idle
+ * @param stripes         partitions of the per-payer bucket map
+ * @param idleEvictMs     how long a full bucket is kept before it is dropped
+ * @param evictIntervalMs how often one stripe is swept for idle buckets
+ * @param maxConcurrent   transfers in progress at once; at most the connection pool size
+ */
+@ConfigurationProperties(prefix = "transfer.admission")
+public record TransferAdmissionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10") double ratePerSecond,
+        @DefaultValue("20") int burst,
+        @DefaultValue("16") int stripes,
+        @DefaultValue("60000") long idleEvictMs,
+        @DefaultValue("5000") long evictIntervalMs,
+        @DefaultValue("10") int maxConcurrent) {
+}
@@ -0,0 +1,25 @@
+package com.simplifiedTransferSystemSpring.repositories;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.simplifiedTransferSystemSpring.domain.ledger.BalanceSnapshot;
+
+@Repository
+public interface BalanceSnapshotRepository extends JpaRepository<BalanceSnapshot, Long> {
+
+    @Query("select coalesce(max(s.run), 0) from balance_snapshots s")
+    long findLastRun();
+
+    @Query("""
+            select s from balance_snapshots s
+            where s.walletId in :walletIds
+              and s.run = (select max(s2.run) from balance_snapshots s2 where s2.walletId = s.walletId)
+            """)
+    List<BalanceSnapshot> findLatestByWalletIdIn(@Param("walletIds") Collection<Long> walletIds);
+}
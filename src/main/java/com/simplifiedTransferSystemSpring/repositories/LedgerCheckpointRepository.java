@@ -0,0 +1,9 @@
+package com.simplifiedTransferSystemSpring.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.simplifiedTransferSystemSpring.domain.ledger.LedgerCheckpoint;
+
+public interface LedgerCheckpointRepository extends JpaRepository<LedgerCheckpoint, Long> {
+
+}
@@ -0,0 +1,61 @@
+package com.simplifiedTransferSystemSpring.repositories;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.simplifiedTransferSystemSpring.domain.ledger.LedgerPosting;
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+
+@Repository
+public interface LedgerPostingRepository extends JpaRepository<LedgerPosting, Long> {
+
+    // sum() results bypass MoneyConverter and come back as plain numerics
+    interface WalletTotal {
+        Long getWalletId();
+
+        BigDecimal getTotal();
+
+        default Money total() {
+            return Money.of(getTotal());
+        }
+    }
+
+    // id of the unclaimed posting at position skip in id order; null when fewer are left
+    @Query(value = """
+            select id from ledger_postings
+            where snapshot_run is null
+            order by id
+            offset :skip rows fetch first 1 rows only
+            """, nativeQuery = true)
+    Long findUnsnapshottedIdAt(@Param("skip") int skip);
+
+    // native, since the entity is @Immutable; snapshot_run is the one column set after the insert
+    @Modifying
+    @Query(value = "update ledger_postings set snapshot_run = :run where snapshot_run is null and id <= :maxId",
+            nativeQuery = true)
+    int claimUnsnapshotted(@Param("run") long run, @Param("maxId") long maxId);
+
+    @Query("""
+            select p.walletId as walletId, sum(p.amount) as total
+            from ledger_postings p
+            where p.snapshotRun = :run
+            group by p.walletId
+            """)
+    List<WalletTotal> sumByWalletClaimedBy(@Param("run") long run);
+
+    // postings not yet folded into a snapshot
+    @Query("""
+            select p.walletId as walletId, sum(p.amount) as total
+            from ledger_postings p
+            where p.walletId in :walletIds and p.snapshotRun is null
+            group by p.walletId
+            """)
+    List<WalletTotal> sumUnsnapshotted(@Param("walletIds") Collection<Long> walletIds);
+}
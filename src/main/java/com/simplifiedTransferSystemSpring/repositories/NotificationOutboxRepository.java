@@ -0,0 +1,45 @@
+package com.simplifiedTransferSystemSpring.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.simplifiedTransferSystemSpring.domain.notification.NotificationOutbox;
+import com.simplifiedTransferSystemSpring.domain.notification.NotificationStatus;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    @Query("""
+            select o.id from notification_outbox o
+            where o.status = :status and o.nextAttemptAt <= :now
+            order by o.nextAttemptAt, o.id""")
+    List<Long> findDueIds(@Param("status") NotificationStatus status, @Param("now") LocalDateTime now,
+            Pageable pageable);
+
+    // rows another node claimed first no longer match the due condition and are skipped
+    @Modifying
+    @Query("""
+            update notification_outbox o
+            set o.claimToken = :token, o.nextAttemptAt = :leaseUntil
+            where o.id in :ids and o.status = :status and o.nextAttemptAt <= :now""")
+    int claim(@Param("ids") List<Long> ids, @Param("status") NotificationStatus status,
+            @Param("now") LocalDateTime now, @Param("token") String token,
+            @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Query("select o from notification_outbox o join fetch o.transaction where o.claimToken = :token order by o.id")
+    List<NotificationOutbox> findByClaimToken(@Param("token") String token);
+
+    // only while the claim is still ours; after the lease ran out another node owns the row
+    @Modifying
+    @Query("""
+            update notification_outbox o
+            set o.status = :status, o.attempts = o.attempts + 1, o.updatedAt = :now, o.nextAttemptAt = :nextAttemptAt
+            where o.id = :id and o.claimToken = :token""")
+    int recordAttempt(@Param("id") Long id, @Param("token") String token, @Param("status") NotificationStatus status,
+            @Param("now") LocalDateTime now, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+}
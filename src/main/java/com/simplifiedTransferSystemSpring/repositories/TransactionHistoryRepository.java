@@ -0,0 +1,99 @@
+package com.simplifiedTransferSystemSpring.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.dtos.TransactionCursor;
+import com.simplifiedTransferSystemSpring.dtos.TransactionFilter;
+import com.simplifiedTransferSystemSpring.dtos.TransactionSummaryDTO;
+
+/**
+ * Read side of the transaction history. Queries go straight to JDBC so rows
+ * are never turned into managed entities, and only the filters actually set
+ * end up in the SQL so each shape can use its own index.
+ */
+@Repository
+public class TransactionHistoryRepository {
+
+    private static final String SELECT = "select t.id, t.amount, t.payer_id, t.payee_id, t.timestamp,"
+            + " t.payer_notified, t.payee_notified from transactions t";
+
+    private static final String ORDER = " order by t.timestamp desc, t.id desc";
+
+    private static final RowMapper<TransactionSummaryDTO> ROW_MAPPER = (rs, rowNum) -> new TransactionSummaryDTO(
+            rs.getLong(1),
+            Money.of(rs.getBigDecimal(2)),
+            rs.getLong(3),
+            rs.getLong(4),
+            rs.getObject(5, LocalDateTime.class),
+            rs.getBoolean(6),
+            rs.getBoolean(7));
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate streamingJdbc;
+
+    public TransactionHistoryRepository(DataSource dataSource,
+            @Value("${transactions.export.fetch-size:500}") int fetchSize) {
+        this.jdbc = new NamedParameterJdbcTemplate(dataSource);
+        JdbcTemplate streaming = new JdbcTemplate(dataSource);
+        streaming.setFetchSize(fetchSize);
+        this.streamingJdbc = new NamedParameterJdbcTemplate(streaming);
+    }
+
+    public List<TransactionSummaryDTO> findPage(TransactionFilter filter, TransactionCursor after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        String sql = SELECT + where(filter, after, params) + ORDER + " fetch first :limit rows only";
+        return this.jdbc.query(sql, params, ROW_MAPPER);
+    }
+
+    /**
+     * Streams every matching row to {@code consumer} from an open cursor.
+     * Runs in a read-only transaction because drivers such as PostgreSQL only
+     * honour the fetch size with auto-commit off.
+     */
+    @Transactional(readOnly = true)
+    public void stream(TransactionFilter filter, Consumer<TransactionSummaryDTO> consumer) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = SELECT + where(filter, null, params) + ORDER;
+        this.streamingJdbc.query(sql, params, (RowCallbackHandler) rs -> consumer.accept(ROW_MAPPER.mapRow(rs, 0)));
+    }
+
+    private String where(TransactionFilter filter, TransactionCursor after, MapSqlParameterSource params) {
+        StringBuilder where = new StringBuilder(" where 1 = 1");
+        if (filter.payerId() != null) {
+            where.append(" and t.payer_id = :payerId");
+            params.addValue("payerId", filter.payerId());
+        }
+        if (filter.payeeId() != null) {
+            where.append(" and t.payee_id = :payeeId");
+            params.addValue("payeeId", filter.payeeId());
+        }
+        if (filter.from() != null) {
+            where.append(" and t.timestamp >= :from");
+            params.addValue("from", filter.from());
+        }
+        if (filter.to() != null) {
+            where.append(" and t.timestamp < :to");
+            params.addValue("to", filter.to());
+        }
+        if (after != null) {
+            where.append(" and (t.timestamp, t.id) < (:cursorTimestamp, :cursorId)");
+            params.addValue("cursorTimestamp", after.timestamp());
+            params.addValue("cursorId", after.id());
+        }
+        return where.toString();
+    }
+}
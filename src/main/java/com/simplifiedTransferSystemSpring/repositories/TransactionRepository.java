@@ -1,9 +1,83 @@
 package com.simplifiedTransferSystemSpring.repositories;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.simplifiedTransferSystemSpring.domain.transaction.Transaction;
+import com.simplifiedTransferSystemSpring.dtos.TransactionSummaryDTO;
 
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
+    // sum() bypasses the Money converter, so the total is read as a BigDecimal
+    interface DailyFlow {
+        Long getWalletId();
+
+        LocalDate getDay();
+
+        BigDecimal getTotal();
+
+        long getTransfers();
+    }
+
+    // served by idx_transactions_payer_timestamp
+    @Query("""
+            select new com.simplifiedTransferSystemSpring.dtos.TransactionSummaryDTO(
+                t.id, t.amount, t.payer.id, t.payee.id, t.timestamp, t.payerNotified, t.payeeNotified)
+            from transactions t
+            where t.payer.id = :userId
+              and (t.timestamp < :timestamp or (t.timestamp = :timestamp and t.id < :id))
+            order by t.timestamp desc, t.id desc
+            """)
+    List<TransactionSummaryDTO> findOutgoingBefore(@Param("userId") Long userId,
+            @Param("timestamp") LocalDateTime timestamp, @Param("id") Long id, Limit limit);
+
+    // served by idx_transactions_payee_timestamp
+    @Query("""
+            select new com.simplifiedTransferSystemSpring.dtos.TransactionSummaryDTO(
+                t.id, t.amount, t.payer.id, t.payee.id, t.timestamp, t.payerNotified, t.payeeNotified)
+            from transactions t
+            where t.payee.id = :userId
+              and (t.timestamp < :timestamp or (t.timestamp = :timestamp and t.id < :id))
+            order by t.timestamp desc, t.id desc
+            """)
+    List<TransactionSummaryDTO> findIncomingBefore(@Param("userId") Long userId,
+            @Param("timestamp") LocalDateTime timestamp, @Param("id") Long id, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("update transactions t set t.payerNotified = true where t.id = :id")
+    int markPayerNotified(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("update transactions t set t.payeeNotified = true where t.id = :id")
+    int markPayeeNotified(@Param("id") Long id);
+
+    @Query("""
+            select t.payer.id as walletId, cast(t.timestamp as LocalDate) as day, sum(t.amount) as total,
+                count(t) as transfers
+            from transactions t
+            where t.payer.id in :walletIds
+            group by t.payer.id, cast(t.timestamp as LocalDate)
+            """)
+    List<DailyFlow> sumSentByDay(@Param("walletIds") Collection<Long> walletIds);
+
+    @Query("""
+            select t.payee.id as walletId, cast(t.timestamp as LocalDate) as day, sum(t.amount) as total,
+                count(t) as transfers
+            from transactions t
+            where t.payee.id in :walletIds
+            group by t.payee.id, cast(t.timestamp as LocalDate)
+            """)
+    List<DailyFlow> sumReceivedByDay(@Param("walletIds") Collection<Long> walletIds);
 }
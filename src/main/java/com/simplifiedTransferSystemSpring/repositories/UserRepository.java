@@ -1,16 +1,77 @@
 package com.simplifiedTransferSystemSpring.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.simplifiedTransferSystemSpring.domain.money.Money;
 import com.simplifiedTransferSystemSpring.domain.user.User;
+import com.simplifiedTransferSystemSpring.domain.user.UserProfile;
+import com.simplifiedTransferSystemSpring.dtos.UserResponseDTO;
+
+import jakarta.persistence.LockModeType;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    interface WalletBalance {
+        Long getId();
+
+        Money getBalance();
+    }
+
     Optional<User> findUserByDocument(String document);
 
     Optional<User> findUserById(Long id);
+
+    @Query("select u.document from users u where u.document in :documents")
+    List<String> findExistingDocuments(@Param("documents") Collection<String> documents);
+
+    @Query("select u.email from users u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("""
+            select new com.simplifiedTransferSystemSpring.domain.user.UserProfile(
+                u.id, u.firstName, u.lastName, u.email, u.userType)
+            from users u
+            where u.id = :id
+            """)
+    Optional<UserProfile> findProfileById(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from users u where u.id in :ids order by u.id")
+    List<User> lockAllByIdOrderById(@Param("ids") Collection<Long> ids);
+
+    // an interface projection: a Money return type would be read as a DTO to construct
+    @Query("select u.id as id, u.balance as balance from users u where u.id = :id")
+    Optional<WalletBalance> findBalanceById(@Param("id") Long id);
+
+    @Query("""
+            select new com.simplifiedTransferSystemSpring.dtos.UserResponseDTO(
+                u.id, u.firstName, u.lastName, u.email, u.userType, u.balance)
+            from users u
+            order by u.id
+            """)
+    List<UserResponseDTO> findAllResponses();
+
+    @Query("select u.id as id, u.balance as balance from users u")
+    List<WalletBalance> findAllBalances();
+
+    @Query("select u.id from users u where u.id > :afterId order by u.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("select u.id as id, u.balance as balance from users u where u.id > :afterId order by u.id")
+    List<WalletBalance> findBalancesAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Modifying
+    @Query("update users u set u.balance = u.balance + :delta where u.id = :id")
+    int adjustBalance(@Param("id") Long id, @Param("delta") Money delta);
 }
\ No newline at end of file
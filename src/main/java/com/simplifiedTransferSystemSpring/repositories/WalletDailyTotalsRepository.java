@@ -0,0 +1,63 @@
+package com.simplifiedTransferSystemSpring.repositories;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.simplifiedTransferSystemSpring.domain.aggregate.WalletDailyTotals;
+import com.simplifiedTransferSystemSpring.domain.aggregate.WalletDay;
+import com.simplifiedTransferSystemSpring.dtos.WalletDailyTotalsDTO;
+
+@Repository
+public interface WalletDailyTotalsRepository extends JpaRepository<WalletDailyTotals, WalletDay> {
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            merge into wallet_daily_totals t
+            using (select cast(:walletId as bigint) as wallet_id, cast(:day as date) as bucket_day) s
+            on t.wallet_id = s.wallet_id and t.bucket_day = s.bucket_day
+            when matched then update set
+                sent_amount = t.sent_amount + :sentAmount, sent_count = t.sent_count + :sentCount,
+                received_amount = t.received_amount + :receivedAmount,
+                received_count = t.received_count + :receivedCount
+            when not matched then insert
+                (wallet_id, bucket_day, sent_amount, sent_count, received_amount, received_count)
+                values (:walletId, :day, :sentAmount, :sentCount, :receivedAmount, :receivedCount)
+            """)
+    int add(@Param("walletId") Long walletId, @Param("day") LocalDate day,
+            @Param("sentAmount") BigDecimal sentAmount, @Param("sentCount") long sentCount,
+            @Param("receivedAmount") BigDecimal receivedAmount, @Param("receivedCount") long receivedCount);
+
+    // served by the (wallet_id, bucket_day) primary key
+    @Query("""
+            select new com.simplifiedTransferSystemSpring.dtos.WalletDailyTotalsDTO(
+                d.walletId, d.day, d.sentAmount, d.sentCount, d.receivedAmount, d.receivedCount)
+            from wallet_daily_totals d
+            where d.walletId = :walletId and d.day between :from and :to
+            order by d.day
+            """)
+    List<WalletDailyTotalsDTO> findDaily(@Param("walletId") Long walletId, @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    // served by idx_wallet_daily_totals_day_received
+    @Query("""
+            select new com.simplifiedTransferSystemSpring.dtos.WalletDailyTotalsDTO(
+                d.walletId, d.day, d.sentAmount, d.sentCount, d.receivedAmount, d.receivedCount)
+            from wallet_daily_totals d
+            where d.day = :day
+            order by d.receivedAmount desc
+            """)
+    List<WalletDailyTotalsDTO> findTopByReceivedOn(@Param("day") LocalDate day, Limit limit);
+
+    @Modifying
+    @Query("delete from wallet_daily_totals d where d.walletId in :walletIds")
+    int deleteByWalletIds(@Param("walletIds") Collection<Long> walletIds);
+}
@@ -0,0 +1,58 @@
+package com.simplifiedTransferSystemSpring.repositories;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.simplifiedTransferSystemSpring.domain.aggregate.WalletTotals;
+import com.simplifiedTransferSystemSpring.dtos.WalletTotalsDTO;
+
+@Repository
+public interface WalletTotalsRepository extends JpaRepository<WalletTotals, Long> {
+
+    // standard MERGE (H2, PostgreSQL 15+); amounts are bound as numerics since converters skip native queries
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            merge into wallet_totals t
+            using (select cast(:walletId as bigint) as wallet_id) s
+            on t.wallet_id = s.wallet_id
+            when matched then update set
+                sent_amount = t.sent_amount + :sentAmount, sent_count = t.sent_count + :sentCount,
+                received_amount = t.received_amount + :receivedAmount,
+                received_count = t.received_count + :receivedCount
+            when not matched then insert (wallet_id, sent_amount, sent_count, received_amount, received_count)
+                values (:walletId, :sentAmount, :sentCount, :receivedAmount, :receivedCount)
+            """)
+    int add(@Param("walletId") Long walletId, @Param("sentAmount") BigDecimal sentAmount,
+            @Param("sentCount") long sentCount, @Param("receivedAmount") BigDecimal receivedAmount,
+            @Param("receivedCount") long receivedCount);
+
+    @Query("""
+            select new com.simplifiedTransferSystemSpring.dtos.WalletTotalsDTO(
+                w.walletId, w.sentAmount, w.sentCount, w.receivedAmount, w.receivedCount)
+            from wallet_totals w
+            where w.walletId = :walletId
+            """)
+    Optional<WalletTotalsDTO> findTotals(@Param("walletId") Long walletId);
+
+    // served by idx_wallet_totals_received
+    @Query("""
+            select new com.simplifiedTransferSystemSpring.dtos.WalletTotalsDTO(
+                w.walletId, w.sentAmount, w.sentCount, w.receivedAmount, w.receivedCount)
+            from wallet_totals w
+            order by w.receivedAmount desc
+            """)
+    List<WalletTotalsDTO> findTopByReceived(Limit limit);
+
+    @Modifying
+    @Query("delete from wallet_totals w where w.walletId in :walletIds")
+    int deleteByWalletIds(@Param("walletIds") Collection<Long> walletIds);
+}
@@ -0,0 +1,303 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.simplifiedTransferSystemSpring.dtos.AuthorizationMetricsDTO;
+import com.simplifiedTransferSystemSpring.infra.AuthorizerProperties;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Client for the external authorizer. Calls are protected by a circuit
+ * breaker, bounded by a shared timeout budget and coalesced: concurrent
+ * callers wait on the single request already in flight instead of issuing
+ * their own. Every outcome fails closed.
+ */
+@Service
+public class AuthorizationClient {
+
+    public enum CircuitState {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private record CachedDecision(boolean authorized, long expiresAtNanos) {
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthorizationClient.class);
+
+    private static final ParameterizedTypeReference<Map<String, Object>> RESPONSE_TYPE = new ParameterizedTypeReference<>() {
+    };
+
+    private final RestTemplate restTemplate;
+    private final AuthorizerProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicReference<CircuitState> state = new AtomicReference<>(CircuitState.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAtNanos;
+
+    private final AtomicReference<CompletableFuture<Boolean>> inFlight = new AtomicReference<>();
+    private volatile CachedDecision cachedDecision;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder trips = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    // moving average of recent calls; racy updates are acceptable for a budget heuristic
+    private volatile double recentLatencyNanos;
+
+    public AuthorizationClient(@Qualifier("authorizerRestTemplate") RestTemplate restTemplate,
+            AuthorizerProperties properties, MeterRegistry meterRegistry) {
+        this.restTemplate = restTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        // the counters behind GET /authorizer/metrics, exported as-is
+        FunctionCounter.builder("authorizer.coalesced", this.hits, LongAdder::sum)
+                .description("Authorizations answered by the cache or an in-flight call")
+                .register(meterRegistry);
+        FunctionCounter.builder("authorizer.remote", this.misses, LongAdder::sum)
+                .description("Authorizations that went to the remote authorizer")
+                .register(meterRegistry);
+        FunctionCounter.builder("authorizer.circuit.trips", this.trips, LongAdder::sum)
+                .register(meterRegistry);
+        FunctionCounter.builder("authorizer.circuit.rejected", this.rejected, LongAdder::sum)
+                .description("Authorizations refused while the circuit was open")
+                .register(meterRegistry);
+        Gauge.builder("authorizer.circuit.state", this.state, s -> s.get().ordinal())
+                .description("0 closed, 1 open, 2 half-open")
+                .register(meterRegistry);
+    }
+
+    public boolean authorize() {
+        CachedDecision cached = this.cachedDecision;
+        if (cached != null && System.nanoTime() < cached.expiresAtNanos()) {
+            this.hits.increment();
+            return cached.authorized();
+        }
+
+        CompletableFuture<Boolean> existing = this.inFlight.get();
+        if (existing != null) {
+            this.hits.increment();
+            return existing.join();
+        }
+
+        if (!allowRequest()) {
+            this.rejected.increment();
+            logger.debug("Authorizer circuit is {}, rejecting without a remote call", this.state.get());
+            return false;
+        }
+
+        CompletableFuture<Boolean> call = new CompletableFuture<>();
+        existing = this.inFlight.compareAndExchange(null, call);
+        if (existing != null) {
+            this.hits.increment();
+            return existing.join();
+        }
+
+        this.misses.increment();
+        boolean authorized = false;
+        try {
+            authorized = callWithinBudget();
+            return authorized;
+        } catch (RuntimeException e) {
+            // anything unexpected still counts against the circuit, so a half-open probe never gets stuck
+            onFailure();
+            throw e;
+        } finally {
+            this.inFlight.compareAndSet(call, null);
+            call.complete(authorized);
+        }
+    }
+
+    public CircuitState getState() {
+        return this.state.get();
+    }
+
+    public AuthorizationMetricsDTO getMetrics() {
+        long callCount = this.calls.sum();
+        double average = callCount == 0 ? 0 : this.totalLatencyNanos.sum() / (double) callCount;
+        return new AuthorizationMetricsDTO(
+                this.state.get().name(),
+                this.hits.sum(),
+                this.misses.sum(),
+                this.trips.sum(),
+                this.rejected.sum(),
+                callCount,
+                average / 1_000_000d,
+                this.recentLatencyNanos / 1_000_000d);
+    }
+
+    private boolean callWithinBudget() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.properties.timeoutBudgetMs());
+        int attempts = 0;
+
+        while (attempts < this.properties.maxAttempts()) {
+            attempts++;
+            long start = System.nanoTime();
+            try {
+                logger.debug("Authorization attempt {}", attempts);
+                ResponseEntity<Map<String, Object>> response = this.restTemplate.exchange(
+                        this.properties.url(), HttpMethod.GET, null, RESPONSE_TYPE);
+                Boolean parsed = response.getStatusCode() == HttpStatus.OK && response.getBody() != null
+                        ? parseAuthorizationResponse(response.getBody())
+                        : null;
+                recordLatency(System.nanoTime() - start,
+                        parsed == null ? "unexpected" : parsed ? "authorized" : "denied");
+
+                if (parsed != null) {
+                    onSuccess(parsed);
+                    return parsed;
+                }
+                logger.warn("Unexpected authorizer response (attempt {}): {}", attempts, response.getStatusCode());
+            } catch (HttpClientErrorException e) {
+                if (e.getStatusCode() == HttpStatus.FORBIDDEN) {
+                    // 403 is the authorizer saying no, not an outage
+                    recordLatency(System.nanoTime() - start, "denied");
+                    onSuccess(false);
+                    return false;
+                }
+                if (e.getStatusCode() != HttpStatus.TOO_MANY_REQUESTS) {
+                    // any other 4xx means the call itself is wrong; retrying will not change that
+                    recordLatency(System.nanoTime() - start, "error");
+                    logger.warn("Authorizer rejected the request (attempt {}): {}", attempts, e.getStatusCode());
+                    break;
+                }
+                recordLatency(System.nanoTime() - start, "throttled");
+                logger.warn("Authorizer throttled request (attempt {})", attempts);
+            } catch (RestClientException e) {
+                recordLatency(System.nanoTime() - start, "error");
+                logger.warn("Authorization request failed (attempt {}): {}", attempts, e.getMessage());
+            }
+
+            if (attempts >= this.properties.maxAttempts()) {
+                break;
+            }
+            // skip the next attempt when it could not finish inside the budget anyway
+            long backoffNanos = TimeUnit.MILLISECONDS.toNanos(this.properties.backoffMs() * attempts);
+            long remaining = deadline - System.nanoTime();
+            if (remaining < backoffNanos + (long) this.recentLatencyNanos) {
+                logger.debug("Authorization budget exhausted after {} attempts", attempts);
+                break;
+            }
+            if (!sleep(backoffNanos)) {
+                break;
+            }
+        }
+
+        onFailure();
+        return false;
+    }
+
+    static Boolean parseAuthorizationResponse(Map<String, Object> body) {
+        Object dataObj = body.get("data");
+        Object statusObj = body.get("status");
+
+        if (dataObj instanceof Map<?, ?> dataMap) {
+            Object authObj = dataMap.get("authorization");
+            if (authObj instanceof Boolean authBoolean)
+                return authBoolean;
+            if (authObj instanceof String authString)
+                return Boolean.valueOf(authString);
+            return false;
+        }
+
+        if (statusObj instanceof String status) {
+            return switch (status.toLowerCase()) {
+                case "success" -> true;
+                case "fail" -> false;
+                default -> false;
+            };
+        }
+
+        return null;
+    }
+
+    private boolean allowRequest() {
+        CircuitState current = this.state.get();
+        if (current == CircuitState.CLOSED) {
+            return true;
+        }
+        if (current == CircuitState.OPEN) {
+            long openFor = System.nanoTime() - this.openedAtNanos;
+            // only the caller that moves the circuit to HALF_OPEN gets to probe
+            return openFor >= TimeUnit.MILLISECONDS.toNanos(this.properties.openDurationMs())
+                    && this.state.compareAndSet(CircuitState.OPEN, CircuitState.HALF_OPEN);
+        }
+        return false;
+    }
+
+    private void onSuccess(boolean authorized) {
+        this.consecutiveFailures.set(0);
+        if (this.state.getAndSet(CircuitState.CLOSED) != CircuitState.CLOSED) {
+            logger.info("Authorizer circuit closed");
+        }
+        if (authorized && this.properties.cacheTtlMs() > 0) {
+            this.cachedDecision = new CachedDecision(true,
+                    System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.properties.cacheTtlMs()));
+        }
+    }
+
+    private void onFailure() {
+        this.cachedDecision = null;
+        int failures = this.consecutiveFailures.incrementAndGet();
+        CircuitState current = this.state.get();
+        boolean shouldOpen = current == CircuitState.HALF_OPEN
+                || (current == CircuitState.CLOSED && failures >= this.properties.failureThreshold());
+        if (!shouldOpen) {
+            return;
+        }
+        long now = System.nanoTime();
+        this.openedAtNanos = now;
+        if (this.state.compareAndSet(current, CircuitState.OPEN)) {
+            this.trips.increment();
+            logger.warn("Authorizer circuit opened after {} consecutive failures", failures);
+        }
+    }
+
+    private void recordLatency(long nanos, String outcome) {
+        Timer.builder("authorizer.attempt")
+                .description("Latency of each authorizer HTTP attempt")
+                .tag("outcome", outcome)
+                .register(this.meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        this.calls.increment();
+        this.totalLatencyNanos.add(nanos);
+        double previous = this.recentLatencyNanos;
+        this.recentLatencyNanos = previous == 0 ? nanos : previous * 0.8 + nanos * 0.2;
+    }
+
+    private boolean sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
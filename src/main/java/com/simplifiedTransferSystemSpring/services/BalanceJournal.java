@@ -0,0 +1,175 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.simplifiedTransferSystemSpring.domain.ledger.BalanceSnapshot;
+import com.simplifiedTransferSystemSpring.domain.ledger.LedgerPosting;
+import com.simplifiedTransferSystemSpring.domain.ledger.PostingType;
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.domain.transaction.Transaction;
+import com.simplifiedTransferSystemSpring.domain.user.User;
+import com.simplifiedTransferSystemSpring.repositories.BalanceSnapshotRepository;
+import com.simplifiedTransferSystemSpring.repositories.LedgerPostingRepository;
+import com.simplifiedTransferSystemSpring.repositories.LedgerPostingRepository.WalletTotal;
+import com.simplifiedTransferSystemSpring.repositories.UserRepository;
+import com.simplifiedTransferSystemSpring.repositories.UserRepository.WalletBalance;
+
+/**
+ * Append-only record of every balance change as double-entry postings,
+ * written in the same database transaction as the change itself. Balances
+ * can be rebuilt from the latest snapshot plus the postings after it, and
+ * compared against {@code users.balance} without locking either table.
+ */
+@Service
+public class BalanceJournal {
+
+    public record SnapshotRun(int wallets, boolean more) {
+    }
+
+    public record ReconciliationChunk(Long lastWalletId, int checked, List<Long> mismatchedWalletIds) {
+    }
+
+    @Autowired
+    private LedgerPostingRepository postingRepository;
+
+    @Autowired
+    private BalanceSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${ledger.snapshot.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${ledger.snapshot.max-postings-per-run:10000}")
+    private int maxPostingsPerRun;
+
+    public void recordOpening(User wallet) {
+        recordOpenings(List.of(wallet));
+    }
+
+    public void recordOpenings(List<User> wallets) {
+        LocalDateTime now = LocalDateTime.now();
+        List<LedgerPosting> postings = new ArrayList<>(wallets.size());
+        for (User wallet : wallets) {
+            postings.add(new LedgerPosting(wallet.getId(), null, PostingType.OPENING, wallet.getBalance(), now));
+        }
+        this.postingRepository.saveAll(postings);
+    }
+
+    public void recordTransfer(Transaction transfer) {
+        recordTransfers(List.of(transfer));
+    }
+
+    public void recordTransfers(List<Transaction> transfers) {
+        // write time rather than the transfer's timestamp, so replayed transfers land after the last snapshot
+        LocalDateTime now = LocalDateTime.now();
+        List<LedgerPosting> postings = new ArrayList<>(transfers.size() * 2);
+        for (Transaction transfer : transfers) {
+            postings.add(new LedgerPosting(transfer.getPayer().getId(), transfer.getId(), PostingType.DEBIT,
+                    transfer.getAmount().negate(), now));
+            postings.add(new LedgerPosting(transfer.getPayee().getId(), transfer.getId(), PostingType.CREDIT,
+                    transfer.getAmount(), now));
+        }
+        this.postingRepository.saveAll(postings);
+    }
+
+    /**
+     * Snapshots every wallet with postings not folded into a snapshot yet.
+     * The run claims exactly the committed postings it sums by stamping them
+     * with its run number, in the same transaction as the snapshot rows, so
+     * a posting committed late (a long transaction, a skewed clock) is simply
+     * claimed by the next run instead of being skipped for good. Two
+     * instances that pick the same run number and touch the same wallet fail
+     * on the unique (wallet, run) index and one of them rolls back.
+     * A run claims at most {@code ledger.snapshot.max-postings-per-run}
+     * postings, the lowest ids first, so a backlog after an outage is worked
+     * off in bounded transactions rather than one update over every posting.
+     *
+     * @return the number of wallets snapshotted, and whether unclaimed
+     *         postings were left past this run's id range
+     */
+    @Transactional
+    public SnapshotRun takeSnapshot() {
+        long run = this.snapshotRepository.findLastRun() + 1;
+        Long maxId = this.postingRepository.findUnsnapshottedIdAt(this.maxPostingsPerRun - 1);
+        boolean more = maxId != null;
+        if (this.postingRepository.claimUnsnapshotted(run, more ? maxId : Long.MAX_VALUE) == 0) {
+            return new SnapshotRun(0, false);
+        }
+
+        List<WalletTotal> deltas = this.postingRepository.sumByWalletClaimedBy(run);
+        LocalDateTime takenAt = LocalDateTime.now();
+        for (int start = 0; start < deltas.size(); start += this.chunkSize) {
+            List<WalletTotal> chunk = deltas.subList(start, Math.min(start + this.chunkSize, deltas.size()));
+            Map<Long, Money> previous = latestSnapshots(chunk.stream().map(WalletTotal::getWalletId).toList());
+
+            List<BalanceSnapshot> snapshots = new ArrayList<>(chunk.size());
+            for (WalletTotal delta : chunk) {
+                Money balance = previous.getOrDefault(delta.getWalletId(), Money.ZERO).plus(delta.total());
+                snapshots.add(new BalanceSnapshot(delta.getWalletId(), balance, run, takenAt));
+            }
+            this.snapshotRepository.saveAll(snapshots);
+        }
+        return new SnapshotRun(deltas.size(), more);
+    }
+
+    @Transactional(readOnly = true)
+    public Money rebuildBalance(Long walletId) {
+        return rebuildBalances(List.of(walletId)).getOrDefault(walletId, Money.ZERO);
+    }
+
+    /**
+     * Balances from the journal alone: latest snapshot plus the tail of
+     * postings after it. Wallets with no postings are absent from the map.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Money> rebuildBalances(Collection<Long> walletIds) {
+        Map<Long, Money> balances = latestSnapshots(walletIds);
+        this.postingRepository.sumUnsnapshotted(walletIds)
+                .forEach(tail -> balances.merge(tail.getWalletId(), tail.total(), Money::plus));
+        return balances;
+    }
+
+    /**
+     * Compares {@code users.balance} with the journal for up to {@code limit}
+     * wallets after {@code afterWalletId}. Plain reads in one snapshot
+     * transaction, so transfers running meanwhile neither block nor show up
+     * half applied.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public ReconciliationChunk reconcile(Long afterWalletId, int limit) {
+        List<WalletBalance> wallets = this.userRepository.findBalancesAfter(afterWalletId, Limit.of(limit));
+        if (wallets.isEmpty()) {
+            return new ReconciliationChunk(null, 0, List.of());
+        }
+
+        Map<Long, Money> journal = rebuildBalances(wallets.stream().map(WalletBalance::getId).toList());
+        List<Long> mismatched = new ArrayList<>();
+        for (WalletBalance wallet : wallets) {
+            if (!wallet.getBalance().equals(journal.getOrDefault(wallet.getId(), Money.ZERO))) {
+                mismatched.add(wallet.getId());
+            }
+        }
+        return new ReconciliationChunk(wallets.get(wallets.size() - 1).getId(), wallets.size(), mismatched);
+    }
+
+    private Map<Long, Money> latestSnapshots(Collection<Long> walletIds) {
+        Map<Long, Money> balances = new HashMap<>();
+        this.snapshotRepository.findLatestByWalletIdIn(walletIds)
+                .forEach(snapshot -> balances.putIfAbsent(snapshot.getWalletId(), snapshot.getBalance()));
+        return balances;
+    }
+}
@@ -0,0 +1,99 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.simplifiedTransferSystemSpring.services.BalanceJournal.ReconciliationChunk;
+import com.simplifiedTransferSystemSpring.services.BalanceJournal.SnapshotRun;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Background jobs over the {@link BalanceJournal}: periodic balance
+ * snapshots in bounded runs, and a reconciliation that walks the wallets
+ * one chunk per run in id order and starts over after the last one.
+ */
+@Service
+public class BalanceJournalScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(BalanceJournalScheduler.class);
+
+    @Autowired
+    private BalanceJournal balanceJournal;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${ledger.snapshot.enabled:true}")
+    private boolean snapshotsEnabled;
+
+    @Value("${ledger.reconciliation.enabled:true}")
+    private boolean reconciliationEnabled;
+
+    @Value("${ledger.reconciliation.chunk-size:500}")
+    private int chunkSize;
+
+    private final LongAdder checked = new LongAdder();
+    private final LongAdder mismatches = new LongAdder();
+
+    // last wallet id reconciled; 0 starts a new pass
+    private long cursor;
+
+    @PostConstruct
+    void registerMetrics() {
+        FunctionCounter.builder("ledger.reconciliation.checked", this.checked, LongAdder::sum)
+                .register(this.meterRegistry);
+        FunctionCounter.builder("ledger.reconciliation.mismatches", this.mismatches, LongAdder::sum)
+                .register(this.meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${ledger.snapshot.interval-ms:60000}")
+    public void snapshotOnSchedule() {
+        if (!this.snapshotsEnabled) {
+            return;
+        }
+        int wallets = snapshotAll();
+        logger.debug("Snapshotted {} wallet balances", wallets);
+    }
+
+    /**
+     * Runs bounded snapshot runs, each in its own transaction, until one
+     * reaches the end of the unclaimed postings.
+     */
+    public synchronized int snapshotAll() {
+        int wallets = 0;
+        SnapshotRun run;
+        do {
+            run = this.balanceJournal.takeSnapshot();
+            wallets += run.wallets();
+        } while (run.more());
+        return wallets;
+    }
+
+    @Scheduled(fixedDelayString = "${ledger.reconciliation.interval-ms:10000}")
+    public void reconcileOnSchedule() {
+        if (this.reconciliationEnabled) {
+            reconcileNextChunk();
+        }
+    }
+
+    public synchronized ReconciliationChunk reconcileNextChunk() {
+        ReconciliationChunk chunk = this.balanceJournal.reconcile(this.cursor, this.chunkSize);
+        this.cursor = chunk.checked() < this.chunkSize ? 0 : chunk.lastWalletId();
+
+        this.checked.add(chunk.checked());
+        this.mismatches.add(chunk.mismatchedWalletIds().size());
+        for (Long walletId : chunk.mismatchedWalletIds()) {
+            logger.warn("Balance of wallet {} does not match the ledger journal", walletId);
+        }
+        return chunk;
+    }
+}
@@ -0,0 +1,137 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.domain.user.BalanceConsistency;
+import com.simplifiedTransferSystemSpring.dtos.UserBalanceDTO;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * In-memory view of wallet balances for polling clients, so balance reads
+ * do not take database connections from transfers. Every committed
+ * transfer installs the new balances of its wallets under a version drawn
+ * while their rows were still locked, so versions follow commit order per
+ * wallet and an update applied late never replaces a newer one. Reads are
+ * plain map lookups and writers swap immutable entries with
+ * compare-and-set; neither ever blocks.
+ * <p>
+ * Wallets not in the view yet are read from the database once. Entries
+ * older than {@code users.balance-view.max-age-ms} are read again, which
+ * bounds how stale a balance changed by another instance can be.
+ */
+@Service
+public class BalanceView {
+
+    private record Entry(Money balance, long version, long refreshedAtNanos) {
+    }
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired(required = false)
+    private LedgerEngine ledgerEngine;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${users.balance-view.max-age-ms:5000}")
+    private long maxAgeMs;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @PostConstruct
+    void registerMetrics() {
+        FunctionCounter.builder("cache.gets", this.hits, LongAdder::sum)
+                .tags("cache", "balances", "result", "hit")
+                .register(this.meterRegistry);
+        FunctionCounter.builder("cache.gets", this.misses, LongAdder::sum)
+                .tags("cache", "balances", "result", "miss")
+                .register(this.meterRegistry);
+        Gauge.builder("cache.size", this.entries, Map::size)
+                .tag("cache", "balances")
+                .register(this.meterRegistry);
+    }
+
+    public UserBalanceDTO findBalance(Long userId, BalanceConsistency consistency) {
+        if (this.ledgerEngine != null) {
+            // the engine's in-memory balance is authoritative and already lock-free to read
+            return new UserBalanceDTO(userId, this.ledgerEngine.balanceOf(userId), consistency, null);
+        }
+        if (consistency == BalanceConsistency.STRONG) {
+            return new UserBalanceDTO(userId, this.userService.findBalance(userId), consistency, null);
+        }
+
+        long now = System.nanoTime();
+        Entry entry = this.entries.get(userId);
+        if (entry != null && (this.maxAgeMs <= 0
+                || now - entry.refreshedAtNanos() < TimeUnit.MILLISECONDS.toNanos(this.maxAgeMs))) {
+            this.hits.increment();
+            return new UserBalanceDTO(userId, entry.balance(), consistency, entry.version());
+        }
+
+        this.misses.increment();
+        // keeps the version it replaces, so a transfer committed meanwhile still wins
+        Entry loaded = new Entry(this.userService.findBalance(userId), entry == null ? 0 : entry.version(), now);
+        boolean installed = entry == null
+                ? this.entries.putIfAbsent(userId, loaded) == null
+                : this.entries.replace(userId, entry, loaded);
+        Entry current = installed ? loaded : this.entries.getOrDefault(userId, loaded);
+        return new UserBalanceDTO(userId, current.balance(), consistency, current.version());
+    }
+
+    /**
+     * Publishes the balances a transfer leaves behind once its transaction
+     * commits. Must be called while the wallet rows are locked, which is
+     * what makes the version order match the commit order.
+     */
+    public void recordCommitted(Map<Long, Money> balances) {
+        long version = this.versions.incrementAndGet();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(balances, version);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(balances, version);
+            }
+        });
+    }
+
+    private void apply(Map<Long, Money> balances, long version) {
+        long now = System.nanoTime();
+        balances.forEach((userId, balance) -> {
+            Entry next = new Entry(balance, version, now);
+            while (true) {
+                Entry current = this.entries.get(userId);
+                if (current != null && current.version() > version) {
+                    return;
+                }
+                if (current == null
+                        ? this.entries.putIfAbsent(userId, next) == null
+                        : this.entries.replace(userId, current, next)) {
+                    return;
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,171 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.simplifiedTransferSystemSpring.domain.idempotency.IdempotencyKey;
+import com.simplifiedTransferSystemSpring.dtos.TransactionDTO;
+import com.simplifiedTransferSystemSpring.dtos.TransactionSummaryDTO;
+import com.simplifiedTransferSystemSpring.infra.IdempotencyProperties;
+import com.simplifiedTransferSystemSpring.repositories.IdempotencyKeyRepository;
+
+/**
+ * Runs a transfer at most once per {@code Idempotency-Key}. Replays come
+ * from a bounded in-memory cache, then from the key table; concurrent
+ * duplicates wait on the request already in flight. Only successful
+ * transfers are remembered, so a rejected request can be retried with the
+ * same key.
+ */
+@Service
+public class IdempotencyService {
+
+    private record CachedResponse(String fingerprint, TransactionSummaryDTO response, long expiresAtNanos) {
+    }
+
+    private record InFlight(String fingerprint, CompletableFuture<TransactionSummaryDTO> result) {
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final TransactionService transactionService;
+    private final IdempotencyKeyRepository repository;
+    private final IdempotencyProperties properties;
+
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    // access-ordered, so the eldest entry is the least recently used; guarded by itself
+    private final LinkedHashMap<String, CachedResponse> cache;
+
+    public IdempotencyService(TransactionService transactionService, IdempotencyKeyRepository repository,
+            IdempotencyProperties properties) {
+        this.transactionService = transactionService;
+        this.repository = repository;
+        this.properties = properties;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > properties.cacheMaxEntries();
+            }
+        };
+    }
+
+    public TransactionSummaryDTO execute(String key, TransactionDTO request) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Idempotency-Key must have between 1 and " + MAX_KEY_LENGTH + " characters.");
+        }
+        String fingerprint = fingerprint(request);
+
+        CachedResponse cached = cached(key);
+        if (cached != null) {
+            requireSameRequest(cached.fingerprint(), fingerprint);
+            return cached.response();
+        }
+
+        InFlight call = new InFlight(fingerprint, new CompletableFuture<>());
+        InFlight existing = this.inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            requireSameRequest(existing.fingerprint(), fingerprint);
+            return await(existing.result());
+        }
+
+        try {
+            TransactionSummaryDTO response = executeOnce(key, fingerprint, request);
+            call.result().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            call.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            this.inFlight.remove(key, call);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int deleted = this.repository.deleteCreatedBefore(
+                LocalDateTime.now().minusHours(this.properties.retentionHours()));
+        if (deleted > 0) {
+            logger.info("Purged {} expired idempotency keys", deleted);
+        }
+    }
+
+    private TransactionSummaryDTO executeOnce(String key, String fingerprint, TransactionDTO request) {
+        IdempotencyKey stored = this.repository.findById(key).orElse(null);
+        if (stored == null) {
+            try {
+                TransactionSummaryDTO response = this.transactionService.createTransaction(request, key, fingerprint);
+                remember(key, fingerprint, response);
+                return response;
+            } catch (DataIntegrityViolationException e) {
+                // another instance committed the same key first; its transfer stands and ours was rolled back
+                stored = this.repository.findById(key).orElseThrow(() -> e);
+            }
+        }
+
+        TransactionSummaryDTO response = toResponse(stored);
+        remember(key, stored.getRequestFingerprint(), response);
+        requireSameRequest(stored.getRequestFingerprint(), fingerprint);
+        return response;
+    }
+
+    private CachedResponse cached(String key) {
+        synchronized (this.cache) {
+            CachedResponse cached = this.cache.get(key);
+            if (cached != null && System.nanoTime() - cached.expiresAtNanos() >= 0) {
+                this.cache.remove(key);
+                return null;
+            }
+            return cached;
+        }
+    }
+
+    private void remember(String key, String fingerprint, TransactionSummaryDTO response) {
+        long expiresAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(this.properties.cacheTtlSeconds());
+        synchronized (this.cache) {
+            this.cache.put(key, new CachedResponse(fingerprint, response, expiresAt));
+        }
+    }
+
+    private static void requireSameRequest(String storedFingerprint, String fingerprint) {
+        if (!storedFingerprint.equals(fingerprint)) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_CONTENT,
+                    "Idempotency-Key was already used with a different request.");
+        }
+    }
+
+    private static TransactionSummaryDTO await(CompletableFuture<TransactionSummaryDTO> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    static String fingerprint(TransactionDTO request) {
+        String value = request.value() == null ? "" : String.valueOf(request.value().cents());
+        return request.payerId() + ":" + request.payeeId() + ":" + value;
+    }
+
+    private static TransactionSummaryDTO toResponse(IdempotencyKey stored) {
+        return new TransactionSummaryDTO(stored.getTransactionId(), stored.getAmount(), stored.getPayerId(),
+                stored.getPayeeId(), stored.getTimestamp(), false, false);
+    }
+}
@@ -0,0 +1,328 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.simplifiedTransferSystemSpring.domain.ledger.LedgerEntry;
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.repositories.UserRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Optional in-memory ledger ({@code ledger.engine.enabled=true}). Balances
+ * live in memory keyed by user id and are guarded by a fixed set of striped
+ * locks, so transfers on unrelated wallets never contend. Every applied
+ * transfer is appended to a local journal and forced to disk before it is
+ * acknowledged; concurrent transfers share one fsync (group commit). Entries
+ * are written to the database in batches by {@link LedgerWriter} on the
+ * engine's own flush thread, and entries that did not reach the database
+ * before a restart are replayed from the journal on startup.
+ */
+@Service
+@ConditionalOnProperty(name = "ledger.engine.enabled", havingValue = "true")
+public class LedgerEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(LedgerEngine.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LedgerWriter ledgerWriter;
+
+    @Value("${ledger.engine.journal-path:data/ledger.journal}")
+    private String journalPath;
+
+    @Value("${ledger.engine.stripes:64}")
+    private int stripeCount;
+
+    @Value("${ledger.engine.flush-batch-size:1000}")
+    private int flushBatchSize;
+
+    @Value("${ledger.engine.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    private final ConcurrentHashMap<Long, Money> balances = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<LedgerEntry> pending = new ConcurrentLinkedQueue<>();
+
+    // guards sequence, journal appends and the order of the pending queue
+    private final ReentrantLock journalLock = new ReentrantLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // group commit: one transfer forces the journal while the others wait for it
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition synced = this.syncLock.newCondition();
+    private boolean syncing;
+    private long syncedSequence;
+
+    private ReentrantLock[] stripes;
+    private LedgerJournal journal;
+    private long sequence;
+    private List<LedgerEntry> unflushed = List.of();
+    private ScheduledExecutorService flusher;
+
+    @PostConstruct
+    public void start() {
+        int size = Integer.highestOneBit(Math.max(1, this.stripeCount - 1) << 1);
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.journal = new LedgerJournal(Path.of(this.journalPath));
+        recover();
+
+        // not on the shared scheduler, where snapshot or reconciliation runs would hold it up
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ledger-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flush, this.flushIntervalMs, this.flushIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        this.flusher.shutdown();
+        try {
+            this.flusher.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        this.journal.close();
+    }
+
+    /**
+     * Brings the database up to date with the journal and reloads every
+     * balance from it. Blocks all transfers while it runs.
+     */
+    public void recover() {
+        lockAllStripes();
+        this.flushLock.lock();
+        this.journalLock.lock();
+        try {
+            long checkpoint = this.ledgerWriter.lastPersistedSequence();
+            List<LedgerEntry> replay = this.journal.readAll().stream()
+                    .filter(entry -> entry.sequence() > checkpoint)
+                    .toList();
+
+            if (!replay.isEmpty()) {
+                logger.info("Replaying {} ledger journal entries after sequence {}", replay.size(), checkpoint);
+                this.ledgerWriter.persist(replay);
+            }
+            this.journal.truncate();
+            this.pending.clear();
+            this.unflushed = List.of();
+            this.sequence = replay.isEmpty() ? checkpoint : replay.get(replay.size() - 1).sequence();
+            markSynced(this.sequence);
+
+            this.balances.clear();
+            this.userRepository.findAllBalances()
+                    .forEach(wallet -> this.balances.put(wallet.getId(), wallet.getBalance()));
+            logger.info("Ledger engine loaded {} wallets at sequence {}", this.balances.size(), this.sequence);
+        } finally {
+            this.journalLock.unlock();
+            this.flushLock.unlock();
+            unlockAllStripes();
+        }
+    }
+
+    public void register(Long userId, Money balance) {
+        this.balances.putIfAbsent(userId, balance);
+    }
+
+    public Money balanceOf(Long userId) {
+        Money balance = this.balances.get(userId);
+        if (balance == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found with id: " + userId);
+        }
+        return balance;
+    }
+
+    /**
+     * Applies the transfer in memory and returns once its journal entry is on
+     * disk, so an acknowledged transfer survives a crash.
+     */
+    public LedgerEntry transfer(Long payerId, Long payeeId, Money amount) {
+        // drawn before any lock is taken; a rejected transfer just leaves a gap in the sequence
+        Long transactionId = this.ledgerWriter.nextTransactionId();
+        LedgerEntry entry = apply(transactionId, payerId, payeeId, amount);
+        awaitSynced(entry.sequence());
+        return entry;
+    }
+
+    private LedgerEntry apply(Long transactionId, Long payerId, Long payeeId, Money amount) {
+        ReentrantLock payerStripe = stripeFor(payerId);
+        ReentrantLock payeeStripe = stripeFor(payeeId);
+        // stripes are always taken in index order so crossing transfers cannot deadlock
+        ReentrantLock first = stripeIndex(payerId) <= stripeIndex(payeeId) ? payerStripe : payeeStripe;
+        ReentrantLock second = first == payerStripe ? payeeStripe : payerStripe;
+
+        first.lock();
+        if (second != first) {
+            second.lock();
+        }
+        try {
+            Money payerBalance = balanceOf(payerId);
+            Money payeeBalance = balanceOf(payeeId);
+
+            if (payerBalance.isLessThan(amount)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Insufficient funds for the transaction.");
+            }
+
+            LedgerEntry entry = appendToJournal(transactionId, payerId, payeeId, amount);
+            if (!payerId.equals(payeeId)) {
+                this.balances.put(payerId, payerBalance.minus(amount));
+                this.balances.put(payeeId, payeeBalance.plus(amount));
+            }
+            return entry;
+        } finally {
+            if (second != first) {
+                second.unlock();
+            }
+            first.unlock();
+        }
+    }
+
+    public void flush() {
+        this.flushLock.lock();
+        try {
+            while (!this.unflushed.isEmpty() || !this.pending.isEmpty()) {
+                if (this.unflushed.isEmpty()) {
+                    this.unflushed = drainPending();
+                }
+                // kept until persisted so a failed batch is retried before any later one
+                this.ledgerWriter.persist(this.unflushed);
+                this.unflushed = List.of();
+            }
+
+            this.journalLock.lock();
+            try {
+                if (this.pending.isEmpty()) {
+                    this.journal.truncate();
+                }
+            } finally {
+                this.journalLock.unlock();
+            }
+        } catch (RuntimeException e) {
+            logger.error("Ledger write-behind flush failed, will retry: {}", e.getMessage());
+        } finally {
+            this.flushLock.unlock();
+        }
+    }
+
+    private List<LedgerEntry> drainPending() {
+        List<LedgerEntry> batch = new ArrayList<>(Math.min(this.flushBatchSize, this.pending.size()));
+        LedgerEntry entry;
+        while (batch.size() < this.flushBatchSize && (entry = this.pending.poll()) != null) {
+            batch.add(entry);
+        }
+        return batch;
+    }
+
+    /**
+     * Waits until the journal is forced past {@code target}. Whoever finds no
+     * sync running forces everything appended so far; transfers that arrive
+     * meanwhile wait and are usually covered by that same fsync.
+     */
+    private void awaitSynced(long target) {
+        this.syncLock.lock();
+        try {
+            while (this.syncedSequence < target) {
+                if (this.syncing) {
+                    this.synced.awaitUninterruptibly();
+                    continue;
+                }
+                this.syncing = true;
+                this.syncLock.unlock();
+                long forced = -1;
+                try {
+                    long appended = appendedSequence();
+                    this.journal.sync();
+                    forced = appended;
+                } finally {
+                    this.syncLock.lock();
+                    this.syncing = false;
+                    this.syncedSequence = Math.max(this.syncedSequence, forced);
+                    this.synced.signalAll();
+                }
+            }
+        } finally {
+            this.syncLock.unlock();
+        }
+    }
+
+    private void markSynced(long sequence) {
+        this.syncLock.lock();
+        try {
+            this.syncedSequence = sequence;
+        } finally {
+            this.syncLock.unlock();
+        }
+    }
+
+    private long appendedSequence() {
+        this.journalLock.lock();
+        try {
+            return this.sequence;
+        } finally {
+            this.journalLock.unlock();
+        }
+    }
+
+    private LedgerEntry appendToJournal(Long transactionId, Long payerId, Long payeeId, Money amount) {
+        this.journalLock.lock();
+        try {
+            LedgerEntry entry = new LedgerEntry(this.sequence + 1, transactionId, payerId, payeeId, amount,
+                    LocalDateTime.now());
+            this.journal.append(entry);
+            this.sequence = entry.sequence();
+            this.pending.add(entry);
+            return entry;
+        } finally {
+            this.journalLock.unlock();
+        }
+    }
+
+    private int stripeIndex(Long userId) {
+        int hash = userId.hashCode();
+        return (hash ^ (hash >>> 16)) & (this.stripes.length - 1);
+    }
+
+    private ReentrantLock stripeFor(Long userId) {
+        return this.stripes[stripeIndex(userId)];
+    }
+
+    private void lockAllStripes() {
+        for (ReentrantLock stripe : this.stripes) {
+            stripe.lock();
+        }
+    }
+
+    private void unlockAllStripes() {
+        for (int i = this.stripes.length - 1; i >= 0; i--) {
+            this.stripes[i].unlock();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.simplifiedTransferSystemSpring.domain.ledger.LedgerEntry;
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+
+/**
+ * Append-only file of ledger entries not yet known to be in the database.
+ * Writes go to the OS page cache on {@link #append}; {@link #sync()} forces
+ * them to disk and is called before a transfer is acknowledged.
+ * Callers must serialize {@code append} and {@code truncate}; {@code sync}
+ * may run alongside them and covers every append that returned before it.
+ */
+public class LedgerJournal implements AutoCloseable {
+
+    private static final String SEPARATOR = ";";
+
+    private final Path path;
+    private final FileChannel channel;
+
+    public LedgerJournal(Path path) {
+        this.path = path;
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open ledger journal " + path, e);
+        }
+    }
+
+    public void append(LedgerEntry entry) {
+        String line = entry.sequence() + SEPARATOR
+                + entry.transactionId() + SEPARATOR
+                + entry.payerId() + SEPARATOR
+                + entry.payeeId() + SEPARATOR
+                + entry.amount() + SEPARATOR
+                + entry.timestamp() + "\n";
+        ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append to ledger journal " + path, e);
+        }
+    }
+
+    public void sync() {
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot sync ledger journal " + path, e);
+        }
+    }
+
+    public void truncate() {
+        try {
+            channel.truncate(0);
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot truncate ledger journal " + path, e);
+        }
+    }
+
+    public List<LedgerEntry> readAll() {
+        List<LedgerEntry> entries = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                LedgerEntry entry = parse(line);
+                if (entry == null) {
+                    // torn write at the tail of the file after a crash
+                    break;
+                }
+                entries.add(entry);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read ledger journal " + path, e);
+        }
+        return entries;
+    }
+
+    private LedgerEntry parse(String line) {
+        String[] fields = line.split(SEPARATOR);
+        // journals written before entries carried a transaction id have five fields
+        int offset = fields.length - 5;
+        if (offset != 0 && offset != 1) {
+            return null;
+        }
+        try {
+            return new LedgerEntry(
+                    Long.parseLong(fields[0]),
+                    offset == 1 ? Long.valueOf(fields[1]) : null,
+                    Long.valueOf(fields[1 + offset]),
+                    Long.valueOf(fields[2 + offset]),
+                    Money.parse(fields[3 + offset]),
+                    LocalDateTime.parse(fields[4 + offset]));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close ledger journal " + path, e);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.simplifiedTransferSystemSpring.domain.ledger.LedgerCheckpoint;
+import com.simplifiedTransferSystemSpring.domain.ledger.LedgerEntry;
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.domain.notification.NotificationOutbox;
+import com.simplifiedTransferSystemSpring.domain.notification.NotificationRecipient;
+import com.simplifiedTransferSystemSpring.domain.transaction.Transaction;
+import com.simplifiedTransferSystemSpring.domain.user.User;
+import com.simplifiedTransferSystemSpring.repositories.LedgerCheckpointRepository;
+import com.simplifiedTransferSystemSpring.repositories.NotificationOutboxRepository;
+import com.simplifiedTransferSystemSpring.repositories.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Write-behind side of the {@link LedgerEngine}: stores a batch of ledger
+ * entries and advances the checkpoint in a single database transaction.
+ * Transaction rows are inserted with the id their entry already carries.
+ */
+@Service
+@ConditionalOnProperty(name = "ledger.engine.enabled", havingValue = "true")
+public class LedgerWriter {
+
+    private static final String INSERT_TRANSACTION = "insert into transactions"
+            + " (id, amount, payer_id, payee_id, timestamp, payer_notified, payee_notified)"
+            + " values (?, ?, ?, ?, ?, false, false)";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private LedgerCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private BalanceJournal balanceJournal;
+
+    @Autowired
+    private TransferAggregates transferAggregates;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public long lastPersistedSequence() {
+        return this.checkpointRepository.findById(LedgerCheckpoint.SINGLETON_ID)
+                .map(LedgerCheckpoint::getLastSequence)
+                .orElse(0L);
+    }
+
+    /**
+     * Next id from {@code transactions_seq}, drawn through the entity's own
+     * generator so ledger and JPA transfers share its pooled block.
+     */
+    @Transactional
+    public Long nextTransactionId() {
+        SharedSessionContractImplementor session = this.entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = (IdentifierGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(Transaction.class).getGenerator();
+        return (Long) generator.generate(session, null);
+    }
+
+    @Transactional
+    public void persist(List<LedgerEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        // one balance update per wallet, applied in id order like the locking path
+        Map<Long, Money> deltas = new TreeMap<>();
+        for (LedgerEntry entry : entries) {
+            deltas.merge(entry.payerId(), entry.amount().negate(), Money::plus);
+            deltas.merge(entry.payeeId(), entry.amount(), Money::plus);
+        }
+
+        Map<Long, User> users = this.userRepository.findAllById(deltas.keySet()).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        deltas.forEach((id, delta) -> {
+            if (delta.signum() != 0) {
+                this.userRepository.adjustBalance(id, delta);
+            }
+        });
+
+        List<Transaction> transactions = new ArrayList<>(entries.size());
+        for (LedgerEntry entry : entries) {
+            User payer = users.get(entry.payerId());
+            User payee = users.get(entry.payeeId());
+
+            Transaction transaction = new Transaction();
+            // entries replayed from a journal written before ids were assigned up front get one now
+            transaction.setId(entry.transactionId() != null ? entry.transactionId() : nextTransactionId());
+            transaction.setAmount(entry.amount());
+            transaction.setPayer(payer);
+            transaction.setPayee(payee);
+            transaction.setTimestamp(entry.timestamp());
+            transactions.add(transaction);
+        }
+
+        // plain inserts: save() treats a row that already has an id as detached and merges it
+        this.jdbcTemplate.batchUpdate(INSERT_TRANSACTION, transactions, transactions.size(), (ps, transaction) -> {
+            ps.setLong(1, transaction.getId());
+            ps.setBigDecimal(2, transaction.getAmount().toBigDecimal());
+            ps.setLong(3, transaction.getPayer().getId());
+            ps.setLong(4, transaction.getPayee().getId());
+            ps.setObject(5, transaction.getTimestamp());
+        });
+
+        this.balanceJournal.recordTransfers(transactions);
+
+        for (Transaction transaction : transactions) {
+            User payer = transaction.getPayer();
+            User payee = transaction.getPayee();
+            this.outboxRepository.save(new NotificationOutbox(transaction, NotificationRecipient.PAYER,
+                    payer.getEmail(), "Transaction sent successfully."));
+            this.outboxRepository.save(new NotificationOutbox(transaction, NotificationRecipient.PAYEE,
+                    payee.getEmail(), "Transaction received successfully."));
+        }
+
+        // one upsert per wallet for the whole batch; this writer is the only one applying ledger transfers
+        this.transferAggregates.recordTransfers(transactions);
+
+        long lastSequence = entries.get(entries.size() - 1).sequence();
+        this.checkpointRepository.save(new LedgerCheckpoint(LedgerCheckpoint.SINGLETON_ID, lastSequence));
+    }
+}
@@ -0,0 +1,143 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.simplifiedTransferSystemSpring.domain.notification.NotificationOutbox;
+import com.simplifiedTransferSystemSpring.domain.notification.NotificationStatus;
+import com.simplifiedTransferSystemSpring.infra.NotificationProperties;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Drains the notification outbox in the background so that transfers never
+ * wait on the notify endpoint. Each run picks up to {@code batch-size} pending
+ * rows and sends them concurrently, payer and payee alike, with at most
+ * {@code notification.max-in-flight} requests open. A slow endpoint holds
+ * those slots longer, so fewer sends start and the rest wait in the outbox.
+ * A row whose send fails is not due again until an exponential backoff
+ * ({@code notification.dispatcher.backoff-ms}, doubled per attempt, capped
+ * at {@code max-backoff-ms}) has passed, so an outage does not burn through
+ * {@code max-attempts} within one run. Rows are claimed through the
+ * {@link NotificationOutboxStore} before they are sent, so dispatchers on
+ * several nodes never pick up the same row while its lease
+ * ({@code notification.dispatcher.lease-ms}) lasts.
+ */
+@Service
+public class NotificationDispatcher {
+
+    private record Delivery(NotificationOutbox entry, boolean sent) {
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    @Autowired
+    private NotificationOutboxStore outboxStore;
+
+    @Autowired
+    private NotificationsService notificationsService;
+
+    @Autowired
+    private NotificationProperties notificationProperties;
+
+    @Value("${notification.dispatcher.enabled:true}")
+    private boolean enabled;
+
+    @Value("${notification.dispatcher.batch-size:100}")
+    private int batchSize;
+
+    @Value("${notification.dispatcher.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${notification.dispatcher.backoff-ms:1000}")
+    private long backoffMs;
+
+    @Value("${notification.dispatcher.max-backoff-ms:60000}")
+    private long maxBackoffMs;
+
+    @Value("${notification.dispatcher.lease-ms:60000}")
+    private long leaseMs;
+
+    @Scheduled(fixedDelayString = "${notification.dispatcher.interval-ms:1000}")
+    public void dispatchPending() {
+        if (!enabled) {
+            return;
+        }
+
+        // claimed rows are leased past now, so the next round only sees rows not tried yet,
+        // even if recording an outcome failed; a round that delivers nothing ends the run anyway
+        List<NotificationOutbox> batch;
+        int sent;
+        do {
+            batch = outboxStore.claimDue(batchSize, LocalDateTime.now().plus(leaseMs, ChronoUnit.MILLIS));
+            sent = dispatch(batch);
+        } while (batch.size() == batchSize && sent > 0);
+    }
+
+    /**
+     * @return how many of the batch were delivered
+     */
+    public int dispatch(List<NotificationOutbox> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // outcomes are stored on this thread as they arrive, keeping JPA off the HTTP client threads
+        int sent = (int) Flux.fromIterable(batch)
+                .flatMap(entry -> notificationsService.send(entry.getEmail(), entry.getMessage())
+                        .map(delivered -> new Delivery(entry, delivered)), notificationProperties.maxInFlight())
+                .toStream()
+                .filter(this::record)
+                .count();
+
+        logger.debug("Dispatched {} outbox notifications, {} delivered", batch.size(), sent);
+        return sent;
+    }
+
+    private boolean record(Delivery delivery) {
+        try {
+            record(delivery.entry(), delivery.sent());
+        } catch (RuntimeException e) {
+            // the row stays leased and is retried once the lease runs out
+            logger.warn("Unexpected error recording outbox notification {}: {}", delivery.entry().getId(),
+                    e.getMessage());
+        }
+        return delivery.sent();
+    }
+
+    private void record(NotificationOutbox entry, boolean sent) {
+        LocalDateTime now = LocalDateTime.now();
+        if (sent) {
+            if (!outboxStore.recordSent(entry, now)) {
+                logger.warn("Lease on outbox notification {} ran out before it was recorded", entry.getId());
+            }
+            return;
+        }
+
+        int attempts = entry.getAttempts() + 1;
+        NotificationStatus status = attempts >= maxAttempts
+                ? NotificationStatus.FAILED
+                : NotificationStatus.PENDING;
+        if (!outboxStore.recordFailure(entry, status, now, now.plus(backoff(attempts), ChronoUnit.MILLIS))) {
+            logger.warn("Lease on outbox notification {} ran out before it was recorded", entry.getId());
+            return;
+        }
+
+        if (status == NotificationStatus.FAILED) {
+            logger.error("Giving up on outbox notification {} after {} attempts", entry.getId(), maxAttempts);
+        }
+    }
+
+    private long backoff(int attempts) {
+        // shift capped well below overflow; the cap applies anyway
+        return Math.min(this.maxBackoffMs, this.backoffMs << Math.min(attempts - 1, 30));
+    }
+}
@@ -0,0 +1,74 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.simplifiedTransferSystemSpring.domain.notification.NotificationOutbox;
+import com.simplifiedTransferSystemSpring.domain.notification.NotificationRecipient;
+import com.simplifiedTransferSystemSpring.domain.notification.NotificationStatus;
+import com.simplifiedTransferSystemSpring.repositories.NotificationOutboxRepository;
+import com.simplifiedTransferSystemSpring.repositories.TransactionRepository;
+
+/**
+ * Outbox writes of the {@link NotificationDispatcher}, each in a
+ * transaction of its own. A run first claims due rows under a fresh token,
+ * pushing them a lease into the future, so dispatchers on other nodes skip
+ * them; a row whose node dies before recording an outcome is due again once
+ * the lease runs out. An outcome is recorded only under the claiming token,
+ * together with the transfer's notified flag.
+ */
+@Service
+public class NotificationOutboxStore {
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Transactional
+    public List<NotificationOutbox> claimDue(int limit, LocalDateTime leaseUntil) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> due = this.outboxRepository.findDueIds(NotificationStatus.PENDING, now, PageRequest.of(0, limit));
+        if (due.isEmpty()) {
+            return List.of();
+        }
+
+        String token = UUID.randomUUID().toString();
+        if (this.outboxRepository.claim(due, NotificationStatus.PENDING, now, token, leaseUntil) == 0) {
+            return List.of();
+        }
+        return this.outboxRepository.findByClaimToken(token);
+    }
+
+    /**
+     * @return false if the claim was lost, in which case nothing is written
+     */
+    @Transactional
+    public boolean recordSent(NotificationOutbox entry, LocalDateTime now) {
+        if (this.outboxRepository.recordAttempt(entry.getId(), entry.getClaimToken(), NotificationStatus.SENT, now,
+                now) == 0) {
+            return false;
+        }
+        Long transactionId = entry.getTransaction().getId();
+        if (entry.getRecipient() == NotificationRecipient.PAYER) {
+            this.transactionRepository.markPayerNotified(transactionId);
+        } else {
+            this.transactionRepository.markPayeeNotified(transactionId);
+        }
+        return true;
+    }
+
+    @Transactional
+    public boolean recordFailure(NotificationOutbox entry, NotificationStatus status, LocalDateTime now,
+            LocalDateTime nextAttemptAt) {
+        return this.outboxRepository.recordAttempt(entry.getId(), entry.getClaimToken(), status, now,
+                nextAttemptAt) > 0;
+    }
+}
@@ -1,83 +1,120 @@
 package com.simplifiedTransferSystemSpring.services;
 
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpServerErrorException;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
-import com.simplifiedTransferSystemSpring.domain.user.User;
 import com.simplifiedTransferSystemSpring.dtos.NotificationDTO;
-
+import com.simplifiedTransferSystemSpring.infra.EndpointRateLimiter;
+import com.simplifiedTransferSystemSpring.infra.NotificationProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Non-blocking client for the notify endpoint. Nothing here waits on a
+ * thread: requests go out through {@code WebClient}, and both the retry
+ * backoff and the rate-limit spacing are timers on Reactor's scheduler.
+ */
 @Service
 public class NotificationsService {
 
     private static final Logger logger = LoggerFactory.getLogger(NotificationsService.class);
 
-    @Autowired
-    private RestTemplate restTemplate;
-
-    public boolean sendNotification(User user, String message) {
-        String email = user.getEmail();
-        NotificationDTO notificationRequest = new NotificationDTO(email, message);
-
-        int attempts = 0;
-        int maxAttempts = 3;
-
-        while (attempts < maxAttempts) {
-            attempts++;
-
-            try {
-                ResponseEntity<String> notificationResponse = restTemplate.postForEntity(
-                        "https://util.devi.tools/api/v1/notify",
-                        notificationRequest,
-                        String.class);
-
-                if (notificationResponse != null && notificationResponse.getStatusCode().is2xxSuccessful()) {
-                    logger.info("Notification sent successfully to {} on attempt {}", email, attempts);
-                    return true;
-                }
-
-                if (notificationResponse != null) {
-                    logger.warn("Notification attempt {} returned non-success status {} for {}",
-                            attempts, notificationResponse.getStatusCode(), email);
-                } else {
-                    logger.warn("Notification attempt {} returned null response for {}",
-                            attempts, email);
-                }
-
-            } catch (HttpServerErrorException e) {
-                logger.warn("Server error on notification attempt {} for {}: {} - {}",
-                        attempts, email, e.getStatusCode(), e.getResponseBodyAsString());
-
-                if (attempts < maxAttempts) {
-                    waitBeforeRetry(attempts);
-                }
-
-            } catch (RestClientException e) {
-                logger.warn("Network error on notification attempt {} for {}: {}",
-                        attempts, email, e.getMessage());
-
-                if (attempts < maxAttempts) {
-                    waitBeforeRetry(attempts);
-                }
-            }
-        }
+    private final WebClient webClient;
+    private final NotificationProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final EndpointRateLimiter rateLimiter;
+    private final String endpoint;
+
+    public NotificationsService(WebClient notificationWebClient, NotificationProperties properties,
+            MeterRegistry meterRegistry) {
+        this.webClient = notificationWebClient;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.rateLimiter = new EndpointRateLimiter(properties.ratePerSecond());
+        this.endpoint = URI.create(properties.url()).getAuthority();
+    }
+
+    /**
+     * Sends one notification, retrying server errors, throttling and
+     * timeouts with exponential backoff plus jitter. Completes with
+     * {@code false} once the attempts are used up; never with an error.
+     */
+    public Mono<Boolean> send(String email, String message) {
+        NotificationDTO request = new NotificationDTO(email, message);
+        AtomicInteger attempts = new AtomicInteger();
+
+        Retry retry = Retry.backoff(this.properties.maxAttempts() - 1, Duration.ofMillis(this.properties.backoffMs()))
+                .maxBackoff(Duration.ofMillis(this.properties.maxBackoffMs()))
+                .jitter(this.properties.jitter())
+                .filter(NotificationsService::isRetryable)
+                .doBeforeRetry(signal -> this.meterRegistry.counter("notification.retries").increment());
+
+        return Mono.defer(() -> attempt(request, attempts.incrementAndGet()))
+                .retryWhen(retry)
+                .doOnSuccess(sent -> logger.info("Notification sent successfully to {} on attempt {}", email,
+                        attempts.get()))
+                .onErrorResume(e -> {
+                    logger.error("Giving up on notification for {} after {} attempts", email, attempts.get());
+                    return Mono.just(false);
+                });
+    }
 
-        logger.error("All {} notification attempts failed for {}", maxAttempts, email);
-        return false;
+    private Mono<Boolean> attempt(NotificationDTO request, int attempt) {
+        Mono<Boolean> call = Mono.defer(() -> {
+            long start = System.nanoTime();
+            return this.webClient.post()
+                    .uri(this.properties.url())
+                    .bodyValue(request)
+                    .retrieve()
+                    .toBodilessEntity()
+                    .timeout(Duration.ofMillis(this.properties.timeoutMs()))
+                    .doOnSuccess(response -> recordAttempt(start, "sent"))
+                    .doOnError(e -> {
+                        recordAttempt(start, outcome(e));
+                        logger.warn("Notification attempt {} for {} failed: {}", attempt, request.email(),
+                                e.getMessage());
+                    })
+                    .thenReturn(true);
+        });
+
+        Duration slot = this.rateLimiter.reserve(this.endpoint);
+        return slot.isZero() ? call : Mono.delay(slot).then(call);
     }
 
-    private void waitBeforeRetry(int attemptNumber) {
-        try {
-            long backoffMillis = 100L * attemptNumber;
-            Thread.sleep(backoffMillis);
-        } catch (InterruptedException ie) {
-            Thread.currentThread().interrupt();
-            logger.warn("Notification retry wait interrupted");
+    private static boolean isRetryable(Throwable error) {
+        if (error instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError()
+                    || response.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
         }
+        // timeouts and connection failures
+        return true;
+    }
+
+    private static String outcome(Throwable error) {
+        if (error instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError() ? "server_error" : "rejected";
+        }
+        return error instanceof TimeoutException ? "timeout" : "error";
+    }
+
+    private void recordAttempt(long startNanos, String outcome) {
+        Timer.builder("notification.attempt")
+                .description("Latency of each notify HTTP attempt")
+                .tag("outcome", outcome)
+                .register(this.meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
     }
-}
\ No newline at end of file
+}
@@ -1,28 +1,60 @@
 package com.simplifiedTransferSystemSpring.services;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpMethod;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.simplifiedTransferSystemSpring.domain.idempotency.IdempotencyKey;
+import com.simplifiedTransferSystemSpring.domain.ledger.LedgerEntry;
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.domain.notification.NotificationOutbox;
+import com.simplifiedTransferSystemSpring.domain.notification.NotificationRecipient;
+import com.simplifiedTransferSystemSpring.domain.transaction.BatchItemStatus;
+import com.simplifiedTransferSystemSpring.domain.transaction.BatchMode;
 import com.simplifiedTransferSystemSpring.domain.transaction.Transaction;
 import com.simplifiedTransferSystemSpring.domain.user.User;
+import com.simplifiedTransferSystemSpring.domain.user.UserProfile;
+import com.simplifiedTransferSystemSpring.domain.user.UserType;
+import com.simplifiedTransferSystemSpring.dtos.BatchItemResultDTO;
+import com.simplifiedTransferSystemSpring.dtos.BatchTransferDTO;
+import com.simplifiedTransferSystemSpring.dtos.BatchTransferResultDTO;
+import com.simplifiedTransferSystemSpring.dtos.StatementCursor;
+import com.simplifiedTransferSystemSpring.dtos.StatementDTO;
+import com.simplifiedTransferSystemSpring.dtos.StatementEntryDTO;
+import com.simplifiedTransferSystemSpring.dtos.TransactionCursor;
 import com.simplifiedTransferSystemSpring.dtos.TransactionDTO;
+import com.simplifiedTransferSystemSpring.dtos.TransactionFilter;
+import com.simplifiedTransferSystemSpring.dtos.TransactionPageDTO;
+import com.simplifiedTransferSystemSpring.dtos.TransactionSummaryDTO;
+import com.simplifiedTransferSystemSpring.infra.CursorSigner;
+import com.simplifiedTransferSystemSpring.repositories.IdempotencyKeyRepository;
+import com.simplifiedTransferSystemSpring.repositories.NotificationOutboxRepository;
+import com.simplifiedTransferSystemSpring.repositories.TransactionHistoryRepository;
 import com.simplifiedTransferSystemSpring.repositories.TransactionRepository;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
 @Service
 public class TransactionService {
 
@@ -33,18 +65,46 @@ public class TransactionService {
     private TransactionRepository repository;
 
     @Autowired
-    private NotificationsService notificationService;
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private TransactionHistoryRepository historyRepository;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private BalanceJournal balanceJournal;
+
+    @Autowired
+    private TransferAggregates transferAggregates;
 
     @Autowired
-    private RestTemplate restTemplate;
+    private AuthorizationClient authorizationClient;
+
+    @Autowired
+    private BalanceView balanceView;
+
+    @Autowired(required = false)
+    private LedgerEngine ledgerEngine;
+
+    @Autowired
+    private ObservationRegistry observationRegistry;
+
+    @Autowired
+    private CursorSigner cursorSigner;
+
+    @Value("${transactions.batch.max-size:1000}")
+    private int maxBatchSize;
 
     private static final Logger logger = LoggerFactory.getLogger(TransactionService.class);
 
-    private User loadUser(Long id) {
-        return this.userService.findUserById(id);
-    }
+    private static final int MAX_PAGE_SIZE = 500;
 
-    private void validateTransaction(User payer, BigDecimal amount) {
+    // keyset start for a statement's first page
+    private static final LocalDateTime END_OF_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private void validateTransaction(User payer, Money amount) {
         this.userService.validateUserTransaction(payer, amount);
     }
 
@@ -57,28 +117,209 @@ public class TransactionService {
         return t;
     }
 
-    private void updateBalances(User payer, User payee, BigDecimal amount) {
-        payer.setBalance(payer.getBalance().subtract(amount));
-        payee.setBalance(payee.getBalance().add(amount));
+    // package-private for the JMH benchmarks in src/jmh/java
+    static void updateBalances(User payer, User payee, Money amount) {
+        payer.setBalance(payer.getBalance().minus(amount));
+        payee.setBalance(payee.getBalance().plus(amount));
     }
 
+    /**
+     * Every step below is a {@code transfer.stage} observation: a timer tagged
+     * with the stage name plus a tracing span under the request's span.
+     */
     @Transactional
     public Transaction createTransaction(TransactionDTO transaction) {
-        User payer = loadUser(transaction.payerId());
-        User payee = loadUser(transaction.payeeId());
+        // profiles come from the user cache; the pre-check still reads the current balance
+        UserProfile payerProfile = stage("load_payer", () -> this.userService.findProfile(transaction.payerId()));
+        UserProfile payeeProfile = stage("load_payee", () -> this.userService.findProfile(transaction.payeeId()));
 
-        validateTransaction(payer, transaction.value());
-        validateAuthorization();
-        Transaction newTransaction = executeTransaction(transaction, payer, payee);
+        stage("validate", () -> this.userService.validateUserTransaction(payerProfile, transaction.value()));
+        stage("authorize", this::validateAuthorization);
+
+        if (this.ledgerEngine != null) {
+            return stage("ledger_transfer", () -> executeLedgerTransaction(transaction,
+                    this.userService.referenceTo(payerProfile.id()), this.userService.referenceTo(payeeProfile.id())));
+        }
+
+        // the authorizer call above runs without row locks; balances are read and re-checked once locked
+        Map<Long, User> wallets = stage("lock", () -> {
+            Map<Long, User> locked = this.userService.lockForTransfer(payerProfile.id(), payeeProfile.id());
+            validateTransaction(locked.get(payerProfile.id()), transaction.value());
+            return locked;
+        });
+        User payer = wallets.get(payerProfile.id());
+        User payee = wallets.get(payeeProfile.id());
 
-        sendNotifications(newTransaction, payer, payee);
+        Transaction newTransaction = stage("execute", () -> executeTransaction(transaction, payer, payee));
+
+        stage("enqueue_notifications", () -> enqueueNotifications(newTransaction, payer, payee));
+
+        // flushing here rather than at commit puts the DB write time in its own stage
+        stage("flush", this.repository::flush);
 
         return newTransaction;
     }
 
+    private <T> T stage(String name, Supplier<T> step) {
+        return stageObservation(name).observe(step);
+    }
+
+    private void stage(String name, Runnable step) {
+        stageObservation(name).observe(step);
+    }
+
+    private Observation stageObservation(String name) {
+        return Observation.createNotStarted("transfer.stage", this.observationRegistry)
+                .lowCardinalityKeyValue("stage", name)
+                .contextualName("transfer " + name);
+    }
+
+    /**
+     * Transfer plus its idempotency key in one database transaction. The key
+     * is always inserted, never merged, so a key already committed elsewhere
+     * fails the flush on its primary key and rolls the transfer back.
+     */
+    @Transactional
+    public TransactionSummaryDTO createTransaction(TransactionDTO transaction, String idempotencyKey,
+            String requestFingerprint) {
+        TransactionSummaryDTO response = TransactionSummaryDTO.of(createTransaction(transaction));
+        this.idempotencyKeyRepository.saveAndFlush(new IdempotencyKey(idempotencyKey, requestFingerprint,
+                response.id(), response.amount(), response.payerId(), response.payeeId(), response.timestamp(),
+                LocalDateTime.now()));
+        return response;
+    }
+
+    /**
+     * Applies many transfers with one authorizer call and one locked load of
+     * every wallet involved. Items are checked in request order against
+     * running balances, so a transfer may spend funds received earlier in the
+     * same batch. Nothing is written until every item has been checked.
+     */
+    @Transactional
+    public BatchTransferResultDTO createBatch(BatchTransferDTO batch) {
+        if (this.ledgerEngine != null) {
+            throw new ResponseStatusException(HttpStatus.NOT_IMPLEMENTED,
+                    "Batch transfers are not available with the ledger engine enabled.");
+        }
+
+        List<TransactionDTO> transfers = batch.transfers() == null ? List.of() : batch.transfers();
+        if (transfers.isEmpty() || transfers.size() > this.maxBatchSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "A batch must contain between 1 and " + this.maxBatchSize + " transfers.");
+        }
+        BatchMode mode = batch.mode() == null ? BatchMode.ALL_OR_NOTHING : batch.mode();
+
+        String[] errors = new String[transfers.size()];
+        Set<Long> userIds = new HashSet<>();
+        for (int i = 0; i < transfers.size(); i++) {
+            TransactionDTO transfer = transfers.get(i);
+            errors[i] = checkBatchItem(transfer);
+            if (errors[i] == null) {
+                userIds.add(transfer.payerId());
+                userIds.add(transfer.payeeId());
+            }
+        }
+        if (mode == BatchMode.ALL_OR_NOTHING && hasErrors(errors)) {
+            return batchResult(mode, errors, null);
+        }
+
+        validateAuthorization();
+
+        Map<Long, User> users = this.userService.lockAll(userIds);
+        Map<Long, Money> balances = new HashMap<>();
+        for (int i = 0; i < transfers.size(); i++) {
+            if (errors[i] == null) {
+                errors[i] = applyBatchItem(transfers.get(i), users, balances);
+            }
+        }
+        if (mode == BatchMode.ALL_OR_NOTHING && hasErrors(errors)) {
+            return batchResult(mode, errors, null);
+        }
+
+        balances.forEach((id, balance) -> users.get(id).setBalance(balance));
+
+        Transaction[] created = new Transaction[transfers.size()];
+        List<NotificationOutbox> notifications = new ArrayList<>();
+        for (int i = 0; i < transfers.size(); i++) {
+            if (errors[i] != null) {
+                continue;
+            }
+            TransactionDTO transfer = transfers.get(i);
+            User payer = users.get(transfer.payerId());
+            User payee = users.get(transfer.payeeId());
+            created[i] = buildTransaction(transfer, payer, payee);
+            notifications.add(new NotificationOutbox(created[i], NotificationRecipient.PAYER,
+                    payer.getEmail(), "Transaction sent successfully."));
+            notifications.add(new NotificationOutbox(created[i], NotificationRecipient.PAYEE,
+                    payee.getEmail(), "Transaction received successfully."));
+        }
+
+        // flushed at commit as batched inserts; sequence ids are assigned here
+        List<Transaction> applied = this.repository.saveAll(Arrays.stream(created).filter(Objects::nonNull).toList());
+        this.balanceJournal.recordTransfers(applied);
+        this.transferAggregates.recordTransfers(applied);
+        this.balanceView.recordCommitted(Map.copyOf(balances));
+        this.outboxRepository.saveAll(notifications);
+
+        return batchResult(mode, errors, created);
+    }
+
+    private String checkBatchItem(TransactionDTO transfer) {
+        if (transfer == null || transfer.payerId() == null || transfer.payeeId() == null) {
+            return "Payer and payee are required.";
+        }
+        if (transfer.value() == null || transfer.value().signum() <= 0) {
+            return "Transfer value must be positive.";
+        }
+        return null;
+    }
+
+    private String applyBatchItem(TransactionDTO transfer, Map<Long, User> users, Map<Long, Money> balances) {
+        User payer = users.get(transfer.payerId());
+        User payee = users.get(transfer.payeeId());
+        if (payer == null || payee == null) {
+            return "User not found with id: " + (payer == null ? transfer.payerId() : transfer.payeeId());
+        }
+        if (payer.getUserType() == UserType.MERCHANT) {
+            return "Merchants are not allowed to initiate transactions.";
+        }
+
+        Money payerBalance = balances.computeIfAbsent(payer.getId(), id -> payer.getBalance());
+        if (payerBalance.isLessThan(transfer.value())) {
+            return "Insufficient funds for the transaction.";
+        }
+        balances.put(payer.getId(), payerBalance.minus(transfer.value()));
+        balances.put(payee.getId(), balances.computeIfAbsent(payee.getId(), id -> payee.getBalance())
+                .plus(transfer.value()));
+        return null;
+    }
+
+    private static boolean hasErrors(String[] errors) {
+        return Arrays.stream(errors).anyMatch(Objects::nonNull);
+    }
+
+    private static BatchTransferResultDTO batchResult(BatchMode mode, String[] errors, Transaction[] created) {
+        List<BatchItemResultDTO> items = new ArrayList<>(errors.length);
+        int applied = 0;
+        int rejected = 0;
+        for (int i = 0; i < errors.length; i++) {
+            if (errors[i] != null) {
+                items.add(new BatchItemResultDTO(i, BatchItemStatus.REJECTED, null, errors[i]));
+                rejected++;
+            } else if (created == null) {
+                items.add(new BatchItemResultDTO(i, BatchItemStatus.SKIPPED, null, null));
+            } else {
+                items.add(new BatchItemResultDTO(i, BatchItemStatus.APPLIED, created[i].getId(), null));
+                applied++;
+            }
+        }
+        return new BatchTransferResultDTO(mode, applied, rejected, items);
+    }
+
     private void validateAuthorization() {
         boolean isAuthorized = authorizeTransaction();
         if (!isAuthorized) {
+            this.userService.countRejection("unauthorized");
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Transaction not authorized");
         }
     }
@@ -87,79 +328,104 @@ public class TransactionService {
         updateBalances(payer, payee, dto.value());
 
         Transaction newTransaction = buildTransaction(dto, payer, payee);
-        Transaction saved = repository.save(newTransaction);
-
-        repository.flush();
+        // inserted at commit; the sequence id is already assigned here
+        repository.save(newTransaction);
+        this.balanceJournal.recordTransfer(newTransaction);
+        this.transferAggregates.recordTransfer(newTransaction);
 
-        return saved;
+        // a transfer to oneself has a single wallet
+        Map<Long, Money> balances = new HashMap<>();
+        balances.put(payer.getId(), payer.getBalance());
+        balances.put(payee.getId(), payee.getBalance());
+        this.balanceView.recordCommitted(balances);
+        return newTransaction;
     }
 
-    private void sendNotifications(Transaction transaction, User payer, User payee) {
-        boolean payerNotified = notificationService.sendNotification(payer, "Transaction sent successfully.");
-        boolean payeeNotified = notificationService.sendNotification(payee, "Transaction received successfully.");
+    private Transaction executeLedgerTransaction(TransactionDTO dto, User payer, User payee) {
+        // balances move in memory; LedgerWriter stores the row and its notifications write-behind
+        // under the id the entry was given
+        LedgerEntry entry = this.ledgerEngine.transfer(payer.getId(), payee.getId(), dto.value());
 
-        try {
-            transaction.setPayerNotified(payerNotified);
-            transaction.setPayeeNotified(payeeNotified);
-            repository.saveAndFlush(transaction);
-        } catch (Exception e) {
-            logger.warn("Failed to persist notification flags for transaction {}: {}",
-                    transaction.getId(), e.getMessage());
-        }
+        Transaction newTransaction = buildTransaction(dto, payer, payee);
+        newTransaction.setId(entry.transactionId());
+        newTransaction.setTimestamp(entry.timestamp());
+        return newTransaction;
+    }
+
+    private void enqueueNotifications(Transaction transaction, User payer, User payee) {
+        // delivered by NotificationDispatcher after commit, outside the transfer's DB transaction
+        outboxRepository.save(new NotificationOutbox(transaction, NotificationRecipient.PAYER,
+                payer.getEmail(), "Transaction sent successfully."));
+        outboxRepository.save(new NotificationOutbox(transaction, NotificationRecipient.PAYEE,
+                payee.getEmail(), "Transaction received successfully."));
     }
 
     public boolean authorizeTransaction() {
-        int attempts = 0;
-        int maxAttempts = 3;
-        while (attempts < maxAttempts) {
-            attempts++;
-            try {
-                logger.debug("Authorization attempt {} (no payer/amount passed)", attempts);
-                ResponseEntity<Map<String, Object>> authorizationResponse = restTemplate.exchange(
-                        "https://util.devi.tools/api/v2/authorize",
-                        HttpMethod.GET,
-                        null,
-                        new ParameterizedTypeReference<Map<String, Object>>() {
-                        });
-
-                if (authorizationResponse.getStatusCode() == HttpStatus.OK && authorizationResponse.getBody() != null) {
-                    Boolean parsed = parseAuthorizationResponse(authorizationResponse.getBody());
-                    if (parsed != null)
-                        return parsed;
-                    return false;
-                }
-            } catch (RestClientException e) {
-                logger.warn("Authorization request failed (attempt {}): {}", attempts, e.getMessage());
-            }
+        return this.authorizationClient.authorize();
+    }
+
+    public TransactionPageDTO getTransactions(TransactionFilter filter, String cursor, int limit) {
+        TransactionCursor after = cursor == null || cursor.isBlank() ? null : TransactionCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        // one extra row tells whether there is a next page without a count query
+        List<TransactionSummaryDTO> rows = this.historyRepository.findPage(filter, after, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new TransactionPageDTO(rows, null);
         }
-        return false;
+        List<TransactionSummaryDTO> page = rows.subList(0, pageSize);
+        return new TransactionPageDTO(page, TransactionCursor.of(page.get(pageSize - 1)).encode());
     }
 
-    private Boolean parseAuthorizationResponse(Map<String, Object> body) {
-        Object dataObj = body.get("data");
-        Object statusObj = body.get("status");
+    /**
+     * Statement for one user, newest first, with the balance after each entry.
+     * Outgoing and incoming pages come from their own indexed queries and are
+     * merged here. The balance and the rows are read from one snapshot.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public StatementDTO getStatement(Long userId, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        StatementCursor position = cursor == null || cursor.isBlank()
+                ? new StatementCursor(userId, END_OF_TIME, Long.MAX_VALUE, this.userService.findBalance(userId))
+                : StatementCursor.decode(cursor, userId, this.cursorSigner);
 
-        if (dataObj instanceof Map<?, ?> dataMap) {
-            Object authObj = dataMap.get("authorization");
-            if (authObj instanceof Boolean authBoolean)
-                return authBoolean;
-            if (authObj instanceof String authString)
-                return Boolean.valueOf(authString);
-            return false;
+        Limit fetch = Limit.of(pageSize + 1);
+        List<TransactionSummaryDTO> rows = new ArrayList<>(
+                this.repository.findOutgoingBefore(userId, position.timestamp(), position.id(), fetch));
+        for (TransactionSummaryDTO incoming : this.repository.findIncomingBefore(userId, position.timestamp(),
+                position.id(), fetch)) {
+            // a transfer to oneself is already in the outgoing list
+            if (!incoming.payerId().equals(userId)) {
+                rows.add(incoming);
+            }
         }
+        rows.sort(Comparator.comparing(TransactionSummaryDTO::timestamp)
+                .thenComparing(TransactionSummaryDTO::id)
+                .reversed());
+
+        List<StatementEntryDTO> entries = new ArrayList<>(Math.min(rows.size(), pageSize));
+        Money balance = position.balance();
+        for (TransactionSummaryDTO row : rows.subList(0, Math.min(rows.size(), pageSize))) {
+            boolean outgoing = row.payerId().equals(userId);
+            Money signed = outgoing && row.payeeId().equals(userId)
+                    ? Money.ZERO
+                    : outgoing ? row.amount().negate() : row.amount();
 
-        if (statusObj instanceof String status) {
-            return switch (status.toLowerCase()) {
-                case "success" -> true;
-                case "fail" -> false;
-                default -> false;
-            };
+            entries.add(new StatementEntryDTO(row.id(), row.timestamp(), outgoing ? "OUT" : "IN",
+                    outgoing ? row.payeeId() : row.payerId(), signed, balance));
+            balance = balance.minus(signed);
         }
 
-        return null;
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            StatementEntryDTO last = entries.get(entries.size() - 1);
+            nextCursor = new StatementCursor(userId, last.timestamp(), last.transactionId(), balance)
+                    .encode(this.cursorSigner);
+        }
+        return new StatementDTO(userId, entries, nextCursor);
     }
 
-    public List<Transaction> getAllTransactions() {
-        return this.repository.findAll();
+    public void exportTransactions(TransactionFilter filter, Consumer<TransactionSummaryDTO> consumer) {
+        this.historyRepository.stream(filter, consumer);
     }
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.simplifiedTransferSystemSpring.infra.PayerRateLimiter;
+import com.simplifiedTransferSystemSpring.infra.RetryLaterException;
+import com.simplifiedTransferSystemSpring.infra.TransferAdmissionProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Decides whether a transfer request may start, before it reaches the
+ * authorizer or the database. A payer over its rate gets 429 and a
+ * payer-specific {@code Retry-After}; when {@code max-concurrent} transfers
+ * are already running, further requests get 503 straight away instead of
+ * queueing for a connection.
+ */
+@Service
+public class TransferAdmission {
+
+    /** Held for the duration of an admitted transfer. */
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(TransferAdmission.class);
+
+    private static final Permit NO_PERMIT = () -> {
+    };
+
+    private final TransferAdmissionProperties properties;
+    private final PayerRateLimiter rateLimiter;
+    private final Semaphore inFlight;
+    private final Permit release;
+    private final Counter rateLimited;
+    private final Counter overloaded;
+    private final AtomicInteger nextStripe = new AtomicInteger();
+
+    public TransferAdmission(TransferAdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.rateLimiter = new PayerRateLimiter(properties.ratePerSecond(), properties.burst(), properties.stripes(),
+                TimeUnit.MILLISECONDS.toNanos(properties.idleEvictMs()));
+        this.inFlight = new Semaphore(properties.maxConcurrent());
+        this.release = this.inFlight::release;
+
+        this.rateLimited = rejections(meterRegistry, "rate_limited");
+        this.overloaded = rejections(meterRegistry, "overloaded");
+        Gauge.builder("transfer.admission.in_flight", this.inFlight,
+                semaphore -> properties.maxConcurrent() - semaphore.availablePermits())
+                .register(meterRegistry);
+        Gauge.builder("transfer.admission.buckets", this.rateLimiter, PayerRateLimiter::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Admits one transfer for {@code payerId} or throws a
+     * {@link RetryLaterException}. The returned permit must be closed when
+     * the transfer is done. The in-flight slot is checked first, so a
+     * request shed with 503 does not use up one of the payer's tokens.
+     */
+    public Permit admit(Long payerId) {
+        return admit(payerId == null ? Set.of() : Set.of(payerId));
+    }
+
+    /**
+     * Admits a batch as one in-flight transfer that takes a token from each
+     * distinct payer in it. A payer over its rate rejects the whole batch;
+     * tokens already taken from the payers before it stay spent, as they
+     * would for separate requests.
+     */
+    public Permit admit(Collection<Long> payerIds) {
+        if (!this.properties.enabled()) {
+            return NO_PERMIT;
+        }
+
+        if (!this.inFlight.tryAcquire()) {
+            this.overloaded.increment();
+            throw new RetryLaterException(HttpStatus.SERVICE_UNAVAILABLE, "Too many transfers in progress.",
+                    Duration.ofSeconds(1));
+        }
+
+        for (Long payerId : new LinkedHashSet<>(payerIds)) {
+            if (payerId == null) {
+                continue;
+            }
+            long waitNanos = this.rateLimiter.tryAcquire(payerId, System.nanoTime());
+            if (waitNanos > 0) {
+                this.inFlight.release();
+                this.rateLimited.increment();
+                throw new RetryLaterException(HttpStatus.TOO_MANY_REQUESTS, "Too many transfers for this payer.",
+                        Duration.ofNanos(waitNanos));
+            }
+        }
+        return this.release;
+    }
+
+    @Scheduled(fixedDelayString = "${transfer.admission.evict-interval-ms:5000}")
+    public void evictIdleBuckets() {
+        int stripe = this.nextStripe.getAndIncrement();
+        int evicted = this.rateLimiter.evictIdle(stripe, System.nanoTime());
+        if (evicted > 0) {
+            logger.debug("Evicted {} idle payer buckets from stripe {}", evicted,
+                    Math.floorMod(stripe, this.rateLimiter.stripeCount()));
+        }
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("transfer.admission.rejected")
+                .description("Transfer requests turned away before reaching the authorizer")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
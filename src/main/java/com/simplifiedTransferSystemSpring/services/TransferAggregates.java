@@ -0,0 +1,173 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.simplifiedTransferSystemSpring.domain.aggregate.WalletDailyTotals;
+import com.simplifiedTransferSystemSpring.domain.aggregate.WalletDay;
+import com.simplifiedTransferSystemSpring.domain.aggregate.WalletTotals;
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.domain.transaction.Transaction;
+import com.simplifiedTransferSystemSpring.dtos.WalletDailyTotalsDTO;
+import com.simplifiedTransferSystemSpring.dtos.WalletTotalsDTO;
+import com.simplifiedTransferSystemSpring.repositories.TransactionRepository;
+import com.simplifiedTransferSystemSpring.repositories.TransactionRepository.DailyFlow;
+import com.simplifiedTransferSystemSpring.repositories.UserRepository;
+import com.simplifiedTransferSystemSpring.repositories.WalletDailyTotalsRepository;
+import com.simplifiedTransferSystemSpring.repositories.WalletTotalsRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Per-wallet totals, all-time and per day, updated in the same database
+ * transaction as each transfer. Every update happens while the transfer
+ * holds the wallet's row lock, so two writers never race on one aggregate
+ * row, and reads are single-row or index-range lookups.
+ */
+@Service
+public class TransferAggregates {
+
+    private static final class Flow {
+        private Money sent = Money.ZERO;
+        private long sentCount;
+        private Money received = Money.ZERO;
+        private long receivedCount;
+
+        private void addSent(Money amount, long count) {
+            this.sent = this.sent.plus(amount);
+            this.sentCount += count;
+        }
+
+        private void addReceived(Money amount, long count) {
+            this.received = this.received.plus(amount);
+            this.receivedCount += count;
+        }
+    }
+
+    private static final int MAX_DAYS = 366;
+    private static final int MAX_TOP = 100;
+
+    @Autowired
+    private WalletTotalsRepository totalsRepository;
+
+    @Autowired
+    private WalletDailyTotalsRepository dailyRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    // the repository rather than UserService, which depends on the ledger engine and so on this class
+    @Autowired
+    private UserRepository userRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public void recordTransfer(Transaction transfer) {
+        recordTransfers(List.of(transfer));
+    }
+
+    /**
+     * Adds transfers to the aggregates, one upsert per wallet and per
+     * wallet-day however many transfers touch it. Must run in the transfer's
+     * transaction, after both wallets are locked.
+     */
+    public void recordTransfers(List<Transaction> transfers) {
+        Map<Long, Flow> totals = new TreeMap<>();
+        Map<WalletDay, Flow> daily = new HashMap<>();
+        for (Transaction transfer : transfers) {
+            Long payerId = transfer.getPayer().getId();
+            Long payeeId = transfer.getPayee().getId();
+            LocalDate day = transfer.getTimestamp().toLocalDate();
+
+            totals.computeIfAbsent(payerId, id -> new Flow()).addSent(transfer.getAmount(), 1);
+            totals.computeIfAbsent(payeeId, id -> new Flow()).addReceived(transfer.getAmount(), 1);
+            daily.computeIfAbsent(new WalletDay(payerId, day), key -> new Flow()).addSent(transfer.getAmount(), 1);
+            daily.computeIfAbsent(new WalletDay(payeeId, day), key -> new Flow())
+                    .addReceived(transfer.getAmount(), 1);
+        }
+
+        totals.forEach((walletId, flow) -> this.totalsRepository.add(walletId, flow.sent.toBigDecimal(),
+                flow.sentCount, flow.received.toBigDecimal(), flow.receivedCount));
+        daily.forEach((key, flow) -> this.dailyRepository.add(key.getWalletId(), key.getDay(),
+                flow.sent.toBigDecimal(), flow.sentCount, flow.received.toBigDecimal(), flow.receivedCount));
+    }
+
+    public WalletTotalsDTO findTotals(Long walletId) {
+        requireWallet(walletId);
+        return this.totalsRepository.findTotals(walletId)
+                .orElse(new WalletTotalsDTO(walletId, Money.ZERO, 0, Money.ZERO, 0));
+    }
+
+    /** Days without transfers are left out. */
+    public List<WalletDailyTotalsDTO> findDaily(Long walletId, LocalDate from, LocalDate to) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "The range must be at most " + MAX_DAYS + " days, from before to.");
+        }
+        requireWallet(walletId);
+        return this.dailyRepository.findDaily(walletId, from, to);
+    }
+
+    public List<WalletTotalsDTO> findTopPayees(int limit) {
+        return this.totalsRepository.findTopByReceived(Limit.of(Math.max(1, Math.min(limit, MAX_TOP))));
+    }
+
+    public List<WalletDailyTotalsDTO> findTopPayees(LocalDate day, int limit) {
+        return this.dailyRepository.findTopByReceivedOn(day, Limit.of(Math.max(1, Math.min(limit, MAX_TOP))));
+    }
+
+    /**
+     * Recomputes the aggregates of the given wallets from
+     * {@code transactions}. The wallets are locked first, in id order like
+     * a transfer, so no transfer touching them commits between the delete
+     * and the recount.
+     */
+    @Transactional
+    public int rebuildWallets(List<Long> walletIds) {
+        this.userRepository.lockAllByIdOrderById(walletIds);
+        this.totalsRepository.deleteByWalletIds(walletIds);
+        this.dailyRepository.deleteByWalletIds(walletIds);
+
+        Map<Long, Flow> totals = new TreeMap<>();
+        Map<WalletDay, Flow> daily = new HashMap<>();
+        for (DailyFlow sent : this.transactionRepository.sumSentByDay(walletIds)) {
+            Money amount = Money.of(sent.getTotal());
+            totals.computeIfAbsent(sent.getWalletId(), id -> new Flow()).addSent(amount, sent.getTransfers());
+            daily.computeIfAbsent(new WalletDay(sent.getWalletId(), sent.getDay()), key -> new Flow())
+                    .addSent(amount, sent.getTransfers());
+        }
+        for (DailyFlow received : this.transactionRepository.sumReceivedByDay(walletIds)) {
+            Money amount = Money.of(received.getTotal());
+            totals.computeIfAbsent(received.getWalletId(), id -> new Flow())
+                    .addReceived(amount, received.getTransfers());
+            daily.computeIfAbsent(new WalletDay(received.getWalletId(), received.getDay()), key -> new Flow())
+                    .addReceived(amount, received.getTransfers());
+        }
+
+        // fresh rows with assigned keys: persist directly rather than save(), which would select each one first
+        totals.forEach((walletId, flow) -> this.entityManager.persist(new WalletTotals(walletId, flow.sent,
+                flow.sentCount, flow.received, flow.receivedCount)));
+        daily.forEach((key, flow) -> this.entityManager.persist(new WalletDailyTotals(key.getWalletId(),
+                key.getDay(), flow.sent, flow.sentCount, flow.received, flow.receivedCount)));
+        return totals.size();
+    }
+
+    private void requireWallet(Long walletId) {
+        if (!this.userRepository.existsById(walletId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found with id: " + walletId);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import com.simplifiedTransferSystemSpring.dtos.AggregateRebuildDTO;
+import com.simplifiedTransferSystemSpring.repositories.UserRepository;
+
+/**
+ * Recomputes the {@link TransferAggregates} of every wallet from
+ * {@code transactions}, in chunks of wallet ids run in parallel. Each chunk
+ * is its own transaction and briefly blocks transfers of its wallets.
+ */
+@Service
+public class TransferAggregatesRebuilder {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransferAggregatesRebuilder.class);
+
+    @Autowired
+    private TransferAggregates transferAggregates;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${aggregates.rebuild.on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    @Value("${aggregates.rebuild.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${aggregates.rebuild.parallelism:4}")
+    private int parallelism;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (this.rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    public synchronized AggregateRebuildDTO rebuild() {
+        long start = System.nanoTime();
+        // bounds the id chunks waiting for a worker, so memory does not grow with the number of wallets
+        Semaphore pending = new Semaphore(this.parallelism * 2);
+        List<Future<Integer>> chunks = new ArrayList<>();
+
+        ExecutorService workers = Executors.newFixedThreadPool(this.parallelism);
+        try {
+            Long afterId = 0L;
+            List<Long> walletIds;
+            while (!(walletIds = this.userRepository.findIdsAfter(afterId, Limit.of(this.chunkSize))).isEmpty()) {
+                afterId = walletIds.get(walletIds.size() - 1);
+                pending.acquireUninterruptibly();
+                List<Long> chunk = walletIds;
+                chunks.add(workers.submit(() -> {
+                    try {
+                        return this.transferAggregates.rebuildWallets(chunk);
+                    } finally {
+                        pending.release();
+                    }
+                }));
+            }
+        } finally {
+            workers.shutdown();
+        }
+
+        long wallets = 0;
+        for (Future<Integer> chunk : chunks) {
+            try {
+                wallets += chunk.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while rebuilding aggregates", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Rebuilding aggregates failed", e.getCause());
+            }
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        logger.info("Rebuilt transfer aggregates of {} wallets in {} ms", wallets, elapsedMillis);
+        return new AggregateRebuildDTO(wallets, elapsedMillis);
+    }
+}
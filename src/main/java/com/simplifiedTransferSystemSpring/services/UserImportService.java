@@ -0,0 +1,285 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.domain.user.User;
+import com.simplifiedTransferSystemSpring.domain.user.UserType;
+import com.simplifiedTransferSystemSpring.dtos.UserDTO;
+import com.simplifiedTransferSystemSpring.dtos.UserImportErrorDTO;
+import com.simplifiedTransferSystemSpring.dtos.UserImportResultDTO;
+import com.simplifiedTransferSystemSpring.repositories.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Streams users from a CSV or NDJSON upload into the database. The file is
+ * read line by line and handled {@code users.import.chunk-size} rows at a
+ * time: one lookup per chunk for documents and emails already taken, then
+ * one transaction that inserts the rest in JDBC batches. Memory use does not
+ * grow with the size of the file.
+ */
+@Service
+public class UserImportService {
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    private record Row(long line, UserDTO user) {
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImportService.class);
+
+    private static final List<String> CSV_COLUMNS = List.of(
+            "firstName", "lastName", "document", "balance", "password", "email", "userType");
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository repository;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${users.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${users.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    public UserImportResultDTO importUsers(InputStream input, Format format) {
+        Import run = new Import();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8),
+                64 * 1024)) {
+            Map<String, Integer> columns = format == Format.CSV ? readHeader(reader) : null;
+            long lineNumber = format == Format.CSV ? 1 : 0;
+            List<Row> chunk = new ArrayList<>(this.chunkSize);
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    UserDTO user = format == Format.CSV ? parseCsv(line, columns) : parseJson(line);
+                    validate(user);
+                    chunk.add(new Row(lineNumber, user));
+                } catch (IllegalArgumentException e) {
+                    run.reject(lineNumber, e.getMessage());
+                } catch (JacksonException e) {
+                    run.reject(lineNumber, e.getOriginalMessage());
+                }
+                if (chunk.size() == this.chunkSize) {
+                    importChunk(chunk, run);
+                    chunk.clear();
+                }
+            }
+            importChunk(chunk, run);
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Could not read the upload: " + e.getMessage());
+        }
+
+        logger.info("Imported {} users, rejected {}", run.imported, run.rejected);
+        return new UserImportResultDTO(run.imported, run.rejected, run.errors);
+    }
+
+    private void importChunk(List<Row> chunk, Import run) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<Row> accepted = withoutDuplicates(chunk, run);
+        if (accepted.isEmpty()) {
+            return;
+        }
+        try {
+            this.userService.createUsers(accepted.stream().map(row -> new User(row.user())).toList());
+            run.imported += accepted.size();
+        } catch (DataIntegrityViolationException e) {
+            // a user created concurrently took a document or email after the lookup; find the row one by one
+            this.entityManager.clear();
+            for (Row row : accepted) {
+                try {
+                    this.userService.createUsers(List.of(new User(row.user())));
+                    run.imported++;
+                } catch (DataIntegrityViolationException duplicate) {
+                    run.reject(row.line(), "Document or email already registered.");
+                }
+                this.entityManager.clear();
+            }
+        }
+        // the inserted entities are no longer needed; with open-in-view they would pile up for the whole upload
+        this.entityManager.clear();
+    }
+
+    /**
+     * Drops rows whose document or email is already in the database or
+     * appears earlier in the chunk. Earlier chunks are already committed, so
+     * the lookup covers them too.
+     */
+    private List<Row> withoutDuplicates(List<Row> chunk, Import run) {
+        Set<String> documents = new HashSet<>(this.repository.findExistingDocuments(
+                chunk.stream().map(row -> row.user().document()).toList()));
+        Set<String> emails = new HashSet<>(this.repository.findExistingEmails(
+                chunk.stream().map(row -> row.user().email()).toList()));
+
+        List<Row> accepted = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            if (!documents.add(row.user().document())) {
+                run.reject(row.line(), "Document already registered: " + row.user().document());
+            } else if (!emails.add(row.user().email())) {
+                run.reject(row.line(), "Email already registered: " + row.user().email());
+            } else {
+                accepted.add(row);
+            }
+        }
+        return accepted;
+    }
+
+    private Map<String, Integer> readHeader(BufferedReader reader) throws IOException {
+        String header = reader.readLine();
+        if (header == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV upload has no header line.");
+        }
+
+        List<String> names = splitCsv(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim(), i);
+        }
+        List<String> missing = CSV_COLUMNS.stream().filter(name -> !columns.containsKey(name)).toList();
+        if (!missing.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV header is missing columns: " + missing);
+        }
+        return columns;
+    }
+
+    private UserDTO parseCsv(String line, Map<String, Integer> columns) {
+        List<String> fields = splitCsv(line);
+        if (fields.size() != columns.size()) {
+            throw new IllegalArgumentException(
+                    "Expected " + columns.size() + " fields but found " + fields.size() + ".");
+        }
+
+        String balance = field(fields, columns, "balance");
+        String userType = field(fields, columns, "userType");
+        return new UserDTO(
+                field(fields, columns, "firstName"),
+                field(fields, columns, "lastName"),
+                field(fields, columns, "document"),
+                balance == null ? null : parseBalance(balance),
+                field(fields, columns, "password"),
+                field(fields, columns, "email"),
+                userType == null ? null : parseUserType(userType));
+    }
+
+    private static Money parseBalance(String value) {
+        try {
+            return Money.parse(value);
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new IllegalArgumentException("Invalid balance: " + value);
+        }
+    }
+
+    private static UserType parseUserType(String value) {
+        try {
+            return UserType.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown userType: " + value);
+        }
+    }
+
+    private UserDTO parseJson(String line) {
+        return this.jsonMapper.readValue(line, UserDTO.class);
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String name) {
+        String value = fields.get(columns.get(name)).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Splits one CSV record. Fields may be quoted, with {@code ""} for a
+     * quote inside; a quoted field cannot span lines.
+     */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field.");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static void validate(UserDTO user) {
+        if (user.document() == null || user.email() == null || user.balance() == null || user.userType() == null) {
+            throw new IllegalArgumentException("document, email, balance and userType are required.");
+        }
+        if (user.balance().signum() < 0) {
+            throw new IllegalArgumentException("balance must not be negative.");
+        }
+    }
+
+    private final class Import {
+        private long imported;
+        private long rejected;
+        private final List<UserImportErrorDTO> errors = new ArrayList<>();
+
+        private void reject(long line, String error) {
+            this.rejected++;
+            if (this.errors.size() < UserImportService.this.maxReportedErrors) {
+                this.errors.add(new UserImportErrorDTO(line, error));
+            }
+        }
+    }
+}
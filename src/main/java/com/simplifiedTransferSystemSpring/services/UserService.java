@@ -1,18 +1,36 @@
 package com.simplifiedTransferSystemSpring.services;
 
-import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.simplifiedTransferSystemSpring.domain.money.Money;
 import com.simplifiedTransferSystemSpring.domain.user.User;
+import com.simplifiedTransferSystemSpring.domain.user.UserProfile;
 import com.simplifiedTransferSystemSpring.domain.user.UserType;
 import com.simplifiedTransferSystemSpring.dtos.UserDTO;
+import com.simplifiedTransferSystemSpring.dtos.UserResponseDTO;
 import com.simplifiedTransferSystemSpring.repositories.UserRepository;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 @Service
 public class UserService {
@@ -20,33 +38,196 @@ public class UserService {
     @Autowired
     private UserRepository repository;
 
-    public void validateUserTransaction(User payer, BigDecimal amount) {
-        if (payer.getUserType().equals(UserType.MERCHANT)) {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired(required = false)
+    private LedgerEngine ledgerEngine;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BalanceJournal balanceJournal;
+
+    @Value("${users.cache.max-entries:10000}")
+    private int cacheMaxEntries;
+
+    // immutable profiles only, never balances; FIFO eviction keeps reads lock-free
+    private final Map<Long, UserProfile> profiles = new ConcurrentHashMap<>();
+    private final Queue<Long> profileOrder = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private final LongAdder cacheEvictions = new LongAdder();
+
+    @PostConstruct
+    void registerCacheMetrics() {
+        FunctionCounter.builder("cache.gets", this.cacheHits, LongAdder::sum)
+                .tags("cache", "userProfiles", "result", "hit")
+                .register(this.meterRegistry);
+        FunctionCounter.builder("cache.gets", this.cacheMisses, LongAdder::sum)
+                .tags("cache", "userProfiles", "result", "miss")
+                .register(this.meterRegistry);
+        FunctionCounter.builder("cache.evictions", this.cacheEvictions, LongAdder::sum)
+                .tag("cache", "userProfiles")
+                .register(this.meterRegistry);
+        Gauge.builder("cache.size", this.profiles, Map::size)
+                .tag("cache", "userProfiles")
+                .register(this.meterRegistry);
+    }
+
+    public void validateUserTransaction(User payer, Money amount) {
+        rejectMerchant(payer.getUserType());
+
+        // with the ledger engine enabled the in-memory balance is authoritative, not the users row
+        Money balance = this.ledgerEngine != null
+                ? this.ledgerEngine.balanceOf(payer.getId())
+                : payer.getBalance();
+
+        rejectInsufficientFunds(balance, amount);
+    }
+
+    /**
+     * Pre-check from a cached profile. The balance is always read fresh from
+     * the ledger engine or the users row, never from the cache.
+     */
+    public void validateUserTransaction(UserProfile payer, Money amount) {
+        rejectMerchant(payer.userType());
+
+        Money balance = this.ledgerEngine != null
+                ? this.ledgerEngine.balanceOf(payer.id())
+                : findBalance(payer.id());
+
+        rejectInsufficientFunds(balance, amount);
+    }
+
+    private void rejectMerchant(UserType payerType) {
+        if (payerType.equals(UserType.MERCHANT)) {
+            countRejection("merchant");
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Merchants are not allowed to initiate transactions.");
         }
+    }
 
-        if (payer.getBalance().compareTo(amount) < 0) {
+    private void rejectInsufficientFunds(Money balance, Money amount) {
+        if (balance.isLessThan(amount)) {
+            countRejection("insufficient_funds");
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Insufficient funds for the transaction.");
         }
     }
 
+    public void countRejection(String reason) {
+        this.meterRegistry.counter("transfer.rejections", "reason", reason).increment();
+    }
+
     public User findUserById(Long id) {
         return this.repository.findUserById(id)
                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found with id: " + id));
     }
 
+    /**
+     * Read-through lookup of a user's immutable attributes. A miss reads a
+     * projection, so nothing is loaded into the persistence context.
+     */
+    public UserProfile findProfile(Long id) {
+        UserProfile cached = this.profiles.get(id);
+        if (cached != null) {
+            this.cacheHits.increment();
+            return cached;
+        }
+
+        this.cacheMisses.increment();
+        UserProfile profile = this.repository.findProfileById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found with id: " + id));
+        if (this.profiles.putIfAbsent(id, profile) == null) {
+            this.profileOrder.add(id);
+            while (this.profiles.size() > this.cacheMaxEntries) {
+                Long eldest = this.profileOrder.poll();
+                if (eldest == null) {
+                    break;
+                }
+                if (this.profiles.remove(eldest) != null) {
+                    this.cacheEvictions.increment();
+                }
+            }
+        }
+        return profile;
+    }
+
+    public User referenceTo(Long id) {
+        return this.entityManager.getReference(User.class, id);
+    }
+
+    public Money findBalance(Long id) {
+        return this.repository.findBalanceById(id)
+               .map(UserRepository.WalletBalance::getBalance)
+               .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found with id: " + id));
+    }
+
+    /**
+     * Loads and write-locks both wallets of a transfer in one query. Rows are
+     * always locked in ascending id order so that two opposite transfers
+     * between the same wallets cannot deadlock each other.
+     */
+    public Map<Long, User> lockForTransfer(Long payerId, Long payeeId) {
+        Map<Long, User> wallets = lockAll(List.of(payerId, payeeId));
+        for (Long id : List.of(payerId, payeeId)) {
+            if (!wallets.containsKey(id)) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found with id: " + id);
+            }
+        }
+        return wallets;
+    }
+
+    /**
+     * Loads and write-locks a set of wallets in one query, in ascending id
+     * order. Must be the first load of these users in the transaction,
+     * otherwise the managed copies are not refreshed.
+     */
+    public Map<Long, User> lockAll(Collection<Long> ids) {
+        return this.repository.lockAllByIdOrderById(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
+    @Transactional
     public User createUser(UserDTO data) {
         User newUser = new User(data);
         this.saveUser(newUser);
+        this.balanceJournal.recordOpening(newUser);
+        if (this.ledgerEngine != null) {
+            this.ledgerEngine.register(newUser.getId(), newUser.getBalance());
+        }
         return newUser;
     }
 
-    public List<User> getAllUsers() {
-        return this.repository.findAll();
+    /**
+     * Inserts already validated users in one transaction, with their opening
+     * postings. Ids come from a pooled sequence, so the inserts go out in
+     * JDBC batches.
+     */
+    @Transactional
+    public List<User> createUsers(List<User> users) {
+        List<User> saved = this.repository.saveAll(users);
+        this.balanceJournal.recordOpenings(saved);
+        if (this.ledgerEngine != null) {
+            saved.forEach(user -> this.ledgerEngine.register(user.getId(), user.getBalance()));
+        }
+        return saved;
+    }
+
+    /**
+     * Read straight into response records, so listing users never loads
+     * managed entities into the persistence context.
+     */
+    public List<UserResponseDTO> getAllUsers() {
+        return this.repository.findAllResponses();
     }
 
     public void saveUser(User user) {
         this.repository.save(user);
+        if (user.getId() != null) {
+            this.profiles.remove(user.getId());
+        }
     }
 
 }
@@ -0,0 +1,29 @@
+package db.migration;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Moves user ids from the identity column to a pooled sequence, so bulk
+ * imports can batch their inserts. The start value depends on the rows
+ * already present and there is no portable way to set a sequence from a
+ * query in plain SQL, hence a Java migration.
+ */
+public class V3__UsersSequence extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            long maxId;
+            try (ResultSet rows = statement.executeQuery("select coalesce(max(id), 0) from users")) {
+                rows.next();
+                maxId = rows.getLong(1);
+            }
+            // Hibernate's pooled optimizer hands out the 50 ids up to each value it reads
+            statement.execute("create sequence users_seq start with " + (maxId + 50) + " increment by 50");
+        }
+    }
+}
@@ -0,0 +1,64 @@
+-- Schema matching the JPA entities; used by the perf profile (ddl-auto=validate).
+-- Plain SQL that runs on PostgreSQL and on H2 in PostgreSQL mode.
+
+create table users (
+    id bigint generated by default as identity primary key,
+    first_name varchar(255),
+    last_name varchar(255),
+    document varchar(255) unique,
+    email varchar(255) unique,
+    password varchar(255),
+    balance numeric(38, 2),
+    user_type varchar(32)
+);
+
+create sequence transactions_seq start with 1 increment by 50;
+
+create table transactions (
+    id bigint not null primary key,
+    amount numeric(38, 2),
+    payer_id bigint references users (id),
+    payee_id bigint references users (id),
+    timestamp timestamp(6),
+    payer_notified boolean not null,
+    payee_notified boolean not null
+);
+
+-- keyset pagination for GET /transactions and the per-user statement
+create index idx_transactions_timestamp_id on transactions (timestamp, id);
+create index idx_transactions_payer_timestamp on transactions (payer_id, timestamp, id);
+create index idx_transactions_payee_timestamp on transactions (payee_id, timestamp, id);
+
+create sequence notification_outbox_seq start with 1 increment by 50;
+
+create table notification_outbox (
+    id bigint not null primary key,
+    transaction_id bigint references transactions (id),
+    recipient varchar(32),
+    email varchar(255),
+    message varchar(255),
+    status varchar(32),
+    attempts integer not null,
+    created_at timestamp(6),
+    updated_at timestamp(6)
+);
+
+create index idx_outbox_status_id on notification_outbox (status, id);
+
+create table ledger_checkpoint (
+    id bigint not null primary key,
+    last_sequence bigint not null
+);
+
+create table idempotency_keys (
+    idempotency_key varchar(255) not null primary key,
+    request_fingerprint varchar(255),
+    transaction_id bigint,
+    amount numeric(38, 2),
+    payer_id bigint,
+    payee_id bigint,
+    timestamp timestamp(6),
+    created_at timestamp(6)
+);
+
+create index idx_idempotency_keys_created_at on idempotency_keys (created_at);
@@ -0,0 +1,32 @@
+-- Append-only double-entry journal of balance changes plus periodic per-wallet snapshots.
+
+create sequence ledger_postings_seq start with 1 increment by 50;
+
+create table ledger_postings (
+    id bigint not null primary key,
+    wallet_id bigint,
+    transaction_id bigint,
+    type varchar(32),
+    amount numeric(38, 2),
+    posted_at timestamp(6)
+);
+
+create index idx_ledger_postings_wallet_posted_at on ledger_postings (wallet_id, posted_at);
+create index idx_ledger_postings_posted_at on ledger_postings (posted_at);
+
+create sequence balance_snapshots_seq start with 1 increment by 50;
+
+create table balance_snapshots (
+    id bigint not null primary key,
+    wallet_id bigint,
+    balance numeric(38, 2),
+    posted_before timestamp(6),
+    taken_at timestamp(6)
+);
+
+create index idx_balance_snapshots_wallet_posted_before on balance_snapshots (wallet_id, posted_before);
+
+-- existing balances become each wallet's opening posting, so the journal starts here.
+-- Negative ids keep these rows clear of the ids handed out by ledger_postings_seq.
+insert into ledger_postings (id, wallet_id, transaction_id, type, amount, posted_at)
+select -id, id, null, 'OPENING', balance, current_timestamp from users;
@@ -0,0 +1,41 @@
+-- Per-wallet transfer totals, all-time and per day, maintained by every transfer.
+
+create table wallet_totals (
+    wallet_id bigint not null primary key,
+    sent_amount numeric(38, 2),
+    sent_count bigint not null,
+    received_amount numeric(38, 2),
+    received_count bigint not null
+);
+
+create index idx_wallet_totals_received on wallet_totals (received_amount);
+
+create table wallet_daily_totals (
+    wallet_id bigint not null,
+    bucket_day date not null,
+    sent_amount numeric(38, 2),
+    sent_count bigint not null,
+    received_amount numeric(38, 2),
+    received_count bigint not null,
+    primary key (wallet_id, bucket_day)
+);
+
+create index idx_wallet_daily_totals_day_received on wallet_daily_totals (bucket_day, received_amount);
+
+-- existing transfers, so the aggregates start out complete
+insert into wallet_daily_totals (wallet_id, bucket_day, sent_amount, sent_count, received_amount, received_count)
+select wallet_id, bucket_day, sum(sent_amount), sum(sent_count), sum(received_amount), sum(received_count)
+from (
+    select payer_id as wallet_id, cast(timestamp as date) as bucket_day,
+           amount as sent_amount, 1 as sent_count, 0 as received_amount, 0 as received_count
+    from transactions
+    union all
+    select payee_id, cast(timestamp as date), 0, 0, amount, 1
+    from transactions
+) flows
+group by wallet_id, bucket_day;
+
+insert into wallet_totals (wallet_id, sent_amount, sent_count, received_amount, received_count)
+select wallet_id, sum(sent_amount), sum(sent_count), sum(received_amount), sum(received_count)
+from wallet_daily_totals
+group by wallet_id;
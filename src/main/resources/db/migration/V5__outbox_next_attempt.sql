@@ -0,0 +1,9 @@
+-- Failed notifications wait for a backoff before the dispatcher picks them up again.
+
+alter table notification_outbox add column next_attempt_at timestamp(6);
+
+update notification_outbox set next_attempt_at = coalesce(updated_at, created_at, current_timestamp);
+
+drop index idx_outbox_status_id;
+
+create index idx_outbox_status_next_attempt on notification_outbox (status, next_attempt_at, id);
@@ -0,0 +1,23 @@
+-- Snapshots are bounded by the postings they claimed instead of a posted_at cutoff,
+-- so a posting committed after its cutoff is no longer left out of every snapshot.
+
+alter table ledger_postings add column snapshot_run bigint;
+alter table balance_snapshots add column run bigint;
+
+-- each distinct cutoff so far becomes one run, in order
+update balance_snapshots s
+set run = (select count(distinct s2.posted_before) from balance_snapshots s2 where s2.posted_before <= s.posted_before);
+
+-- a posting belongs to the wallet's first snapshot whose cutoff is after it, as the cutoff queries read it
+update ledger_postings p
+set snapshot_run = (select min(s.run) from balance_snapshots s
+                    where s.wallet_id = p.wallet_id and s.posted_before > p.posted_at);
+
+drop index idx_balance_snapshots_wallet_posted_before;
+alter table balance_snapshots drop column posted_before;
+create unique index ux_balance_snapshots_wallet_run on balance_snapshots (wallet_id, run);
+
+drop index idx_ledger_postings_wallet_posted_at;
+drop index idx_ledger_postings_posted_at;
+create index idx_ledger_postings_wallet_snapshot_run on ledger_postings (wallet_id, snapshot_run);
+create index idx_ledger_postings_snapshot_run on ledger_postings (snapshot_run);
@@ -0,0 +1,3 @@
+-- Dispatchers claim outbox rows under a token before sending them, so several nodes never send the same row.
+
+alter table notification_outbox add column claim_token varchar(255);
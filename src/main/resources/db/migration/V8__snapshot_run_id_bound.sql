@@ -0,0 +1,5 @@
+-- Snapshot runs claim unclaimed postings in id order up to a bound, so the index also serves
+-- "snapshot_run is null order by id".
+
+drop index idx_ledger_postings_snapshot_run;
+create index idx_ledger_postings_snapshot_run_id on ledger_postings (snapshot_run, id);
@@ -0,0 +1,76 @@
+package com.simplifiedTransferSystemSpring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.domain.transaction.BatchMode;
+import com.simplifiedTransferSystemSpring.domain.user.User;
+import com.simplifiedTransferSystemSpring.domain.user.UserType;
+import com.simplifiedTransferSystemSpring.dtos.BatchTransferDTO;
+import com.simplifiedTransferSystemSpring.dtos.TransactionDTO;
+import com.simplifiedTransferSystemSpring.dtos.TransactionFilter;
+import com.simplifiedTransferSystemSpring.dtos.UserDTO;
+import com.simplifiedTransferSystemSpring.services.AuthorizationClient;
+import com.simplifiedTransferSystemSpring.services.IdempotencyService;
+import com.simplifiedTransferSystemSpring.services.TransactionService;
+import com.simplifiedTransferSystemSpring.services.UserService;
+
+/**
+ * Boots the perf profile on H2 in PostgreSQL mode: Flyway builds the schema
+ * and Hibernate validates it against the entities, then every write path
+ * runs once against the migrated tables.
+ */
+@ActiveProfiles("perf")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:perf-profile-test;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "notification.dispatcher.enabled=false"
+})
+class PerfProfileTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @MockitoBean
+    private AuthorizationClient authorizationClient;
+
+    @Test
+    void migratedSchemaServesTheTransferPaths() {
+        when(authorizationClient.authorize()).thenReturn(true);
+        User payer = createUser("100.00");
+        User payee = createUser("0.00");
+
+        transactionService.createTransaction(new TransactionDTO(Money.parse("10.00"), payer.getId(), payee.getId()));
+        idempotencyService.execute(UUID.randomUUID().toString(),
+                new TransactionDTO(Money.parse("5.00"), payer.getId(), payee.getId()));
+        transactionService.createBatch(new BatchTransferDTO(BatchMode.ALL_OR_NOTHING, List.of(
+                new TransactionDTO(Money.parse("1.00"), payer.getId(), payee.getId()),
+                new TransactionDTO(Money.parse("2.00"), payee.getId(), payer.getId()))));
+
+        assertThat(userService.findBalance(payer.getId())).isEqualTo(Money.parse("86.00"));
+        assertThat(transactionService.getTransactions(new TransactionFilter(payer.getId(), null, null, null), null, 10)
+                .items()).hasSize(3);
+        assertThat(transactionService.getStatement(payee.getId(), null, 10).entries()).hasSize(4);
+    }
+
+    private User createUser(String balance) {
+        String id = UUID.randomUUID().toString();
+        return userService.createUser(new UserDTO("Perf", id, id, Money.parse(balance), "secret",
+                id + "@example.com", UserType.COMMON));
+    }
+}
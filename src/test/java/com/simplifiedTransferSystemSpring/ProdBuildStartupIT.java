@@ -0,0 +1,209 @@
+package com.simplifiedTransferSystemSpring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.simplifiedTransferSystemSpring.support.StubHttpServer;
+
+/**
+ * Starts the extracted production build from {@code ./mvnw -Pprod verify}
+ * as a separate JVM, {@code startup.runs} times in each mode, alternating
+ * between plain JIT startup and the AOT initializers with the CDS archive
+ * from the training run. Each run measures the time until
+ * {@code /actuator/health} answers, the time until the first transfer
+ * completes and the resident memory of the process at that point. The
+ * medians are checked against {@code startup.max-ms},
+ * {@code startup.max-first-transfer-ms} and {@code startup.max-rss-mb}, and
+ * the AOT median must be ready within {@code startup.max-aot-jit-ratio} of
+ * the JIT median.
+ */
+class ProdBuildStartupIT {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProdBuildStartupIT.class);
+
+    private static final Pattern USER_ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final Pattern RSS = Pattern.compile("VmRSS:\\s+(\\d+) kB");
+
+    private static final long MAX_STARTUP_MS = Long.getLong("startup.max-ms", 30_000);
+    private static final long MAX_FIRST_TRANSFER_MS = Long.getLong("startup.max-first-transfer-ms", 35_000);
+    private static final long MAX_RSS_MB = Long.getLong("startup.max-rss-mb", 512);
+    private static final int RUNS = Integer.getInteger("startup.runs", 3);
+    private static final double MAX_AOT_JIT_RATIO = Double.parseDouble(
+            System.getProperty("startup.max-aot-jit-ratio", "0.9"));
+
+    private static StubHttpServer authorizer;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    private record Startup(String mode, long readyMillis, long firstTransferMillis, long rssMegabytes) {
+    }
+
+    @BeforeAll
+    static void startAuthorizer() {
+        authorizer = StubHttpServer.start()
+                .respond(200, "{\"status\":\"success\",\"data\":{\"authorization\":true}}");
+    }
+
+    @AfterAll
+    static void stopAuthorizer() {
+        authorizer.close();
+    }
+
+    @Test
+    void aotAndCdsStartFasterThanPlainJit() throws Exception {
+        Path appDir = Path.of(System.getProperty("app.dir", "target/app"));
+        assumeTrue(Files.exists(appDir.resolve("application.jsa")), "run with ./mvnw -Pprod verify");
+
+        // alternated so that a slow stretch of the machine does not land on one mode only
+        List<Startup> jitRuns = new ArrayList<>();
+        List<Startup> aotRuns = new ArrayList<>();
+        for (int run = 1; run <= RUNS; run++) {
+            jitRuns.add(log(start(appDir, "jit", run, List.of())));
+            aotRuns.add(log(start(appDir, "aot+cds", run, List.of("-XX:SharedArchiveFile=application.jsa",
+                    "-Xshare:on", "-Dspring.aot.enabled=true"))));
+        }
+
+        Startup jit = log(median("jit", jitRuns));
+        Startup aot = log(median("aot+cds", aotRuns));
+        assertThat(aot.readyMillis()).isLessThan(MAX_STARTUP_MS);
+        assertThat(aot.firstTransferMillis()).isLessThan(MAX_FIRST_TRANSFER_MS);
+        assertThat(aot.rssMegabytes()).isLessThan(MAX_RSS_MB);
+        assertThat((double) aot.readyMillis()).as("AOT median ready time against the JIT median")
+                .isLessThan(jit.readyMillis() * MAX_AOT_JIT_RATIO);
+    }
+
+    private static Startup log(Startup startup) {
+        logger.info("{} ready {} ms, first transfer {} ms, rss {} MiB", startup.mode(), startup.readyMillis(),
+                startup.firstTransferMillis(), startup.rssMegabytes());
+        return startup;
+    }
+
+    private static Startup median(String mode, List<Startup> runs) {
+        return new Startup(mode + " median", median(runs, Startup::readyMillis),
+                median(runs, Startup::firstTransferMillis), median(runs, Startup::rssMegabytes));
+    }
+
+    private static long median(List<Startup> runs, ToLongFunction<Startup> metric) {
+        long[] values = runs.stream().mapToLong(metric).sorted().toArray();
+        return values[values.length / 2];
+    }
+
+    private Startup start(Path appDir, String mode, int run, List<String> jvmOptions) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>(List.of(Path.of(System.getProperty("java.home"), "bin", "java")
+                .toString()));
+        command.addAll(jvmOptions);
+        command.addAll(List.of("-jar", System.getProperty("app.jar"),
+                "--spring.profiles.active=" + System.getProperty("app.profiles", "perf"),
+                "--server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:mem:startup;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+                        + "DEFAULT_NULL_ORDERING=HIGH",
+                "--authorizer.url=" + authorizer.url("/api/v2/authorize"),
+                "--notification.url=" + authorizer.url("/api/v1/notify")));
+
+        Path log = appDir.getParent().resolve("startup-" + mode.replace('+', '-') + "-" + run + ".log");
+        long launched = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(appDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            String base = "http://localhost:" + port;
+            awaitHealthy(base, process, log);
+            long ready = elapsedMillis(launched);
+
+            long payer = createUser(base, "COMMON");
+            long payee = createUser(base, "MERCHANT");
+            HttpResponse<String> transfer = post(base + "/transactions",
+                    String.format("{\"payerId\":%d,\"payeeId\":%d,\"value\":1.00}", payer, payee));
+            long firstTransfer = elapsedMillis(launched);
+            assertThat(transfer.statusCode()).as(transfer.body()).isEqualTo(200);
+
+            return new Startup(mode + " run " + run, ready, firstTransfer, residentMegabytes(process.pid()));
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private void awaitHealthy(String base, Process process, Path log) throws Exception {
+        HttpRequest health = HttpRequest.newBuilder(URI.create(base + "/actuator/health")).build();
+        long deadline = System.nanoTime() + Duration.ofMillis(MAX_STARTUP_MS * 2).toNanos();
+        while (System.nanoTime() < deadline) {
+            assertThat(process.isAlive()).as("application exited, see %s", log).isTrue();
+            try {
+                if (this.client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (ConnectException e) {
+                // not listening yet
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("application did not become healthy, see " + log);
+    }
+
+    private long createUser(String base, String type) throws Exception {
+        String id = type + System.nanoTime();
+        HttpResponse<String> response = post(base + "/users", String.format("{\"firstName\":\"Startup\","
+                + "\"lastName\":\"Check\",\"document\":\"%s\",\"email\":\"%s@example.com\",\"balance\":100.00,"
+                + "\"password\":\"secret\",\"userType\":\"%s\"}", id, id, type));
+        Matcher matcher = USER_ID.matcher(response.body());
+        assertThat(matcher.find()).as(response.body()).isTrue();
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private HttpResponse<String> post(String url, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return this.client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static long residentMegabytes(long pid) throws IOException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (!Files.exists(status)) {
+            // not Linux; the RSS budget is not checked
+            return 0;
+        }
+        Matcher matcher = RSS.matcher(Files.readString(status));
+        return matcher.find() ? Long.parseLong(matcher.group(1)) / 1024 : 0;
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.simplifiedTransferSystemSpring.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.domain.user.User;
+import com.simplifiedTransferSystemSpring.domain.user.UserType;
+import com.simplifiedTransferSystemSpring.dtos.TransactionDTO;
+import com.simplifiedTransferSystemSpring.dtos.UserDTO;
+import com.simplifiedTransferSystemSpring.services.AuthorizationClient;
+import com.simplifiedTransferSystemSpring.services.TransactionService;
+import com.simplifiedTransferSystemSpring.services.UserService;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:transaction-controller-test",
+        "spring.jpa.show-sql=false",
+        "notification.dispatcher.enabled=false",
+        "transfer.admission.rate-per-second=0.5",
+        "transfer.admission.burst=3"
+})
+@AutoConfigureMockMvc
+class TransactionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private UserService userService;
+
+    @MockitoBean
+    private AuthorizationClient authorizationClient;
+
+    private User payer;
+    private User payee;
+
+    @BeforeEach
+    void setUp() {
+        when(authorizationClient.authorize()).thenReturn(true);
+        payer = createUser();
+        payee = createUser();
+        for (int i = 0; i < 7; i++) {
+            transactionService.createTransaction(new TransactionDTO(Money.ofCents(100), payer.getId(), payee.getId()));
+        }
+    }
+
+    @Test
+    void pagesThroughHistoryWithCursor() throws Exception {
+        Set<Long> seen = new HashSet<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+
+        do {
+            var request = get("/transactions").param("payerId", payer.getId().toString()).param("limit", "3");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = read(mockMvc.perform(request).andExpect(status().isOk()).andReturn());
+
+            pageSizes.add(page.get("items").size());
+            page.get("items").forEach(item -> seen.add(item.get("id").asLong()));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asString();
+        } while (cursor != null);
+
+        assertThat(pageSizes).containsExactly(3, 3, 1);
+        assertThat(seen).hasSize(7);
+    }
+
+    @Test
+    void rejectsMalformedCursor() throws Exception {
+        mockMvc.perform(get("/transactions").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportsFilteredHistoryAsNdjson() throws Exception {
+        MvcResult started = mockMvc.perform(get("/transactions/export").param("payeeId", payee.getId().toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.strip().split("\n");
+        assertThat(lines).hasSize(7);
+        assertThat(jsonMapper.readTree(lines[0]).get("payeeId").asLong()).isEqualTo(payee.getId());
+    }
+
+    @Test
+    void statementCarriesRunningBalanceAcrossPages() throws Exception {
+        transactionService.createTransaction(new TransactionDTO(Money.parse("2.00"), payee.getId(), payer.getId()));
+
+        List<JsonNode> entries = new ArrayList<>();
+        String cursor = null;
+        do {
+            var request = get("/users/" + payee.getId() + "/transactions").param("limit", "3");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = read(mockMvc.perform(request).andExpect(status().isOk()).andReturn());
+
+            page.get("entries").forEach(entries::add);
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asString();
+        } while (cursor != null);
+
+        assertThat(entries).hasSize(8);
+        assertThat(entries.get(0).get("direction").asString()).isEqualTo("OUT");
+        assertThat(entries.get(0).get("balanceAfter").decimalValue()).isEqualByComparingTo("105.00");
+        JsonNode oldest = entries.get(entries.size() - 1);
+        assertThat(oldest.get("balanceAfter").decimalValue().subtract(oldest.get("amount").decimalValue()))
+                .isEqualByComparingTo("100.00");
+    }
+
+    @Test
+    void statementCursorCannotBeAlteredOrReused() throws Exception {
+        String cursor = read(mockMvc.perform(get("/users/" + payer.getId() + "/transactions").param("limit", "2"))
+                .andExpect(status().isOk()).andReturn()).get("nextCursor").asString();
+
+        // same position, running balance raised by the client
+        String[] parts = cursor.split("\\.");
+        String raw = new String(Base64.getUrlDecoder().decode(parts[0]), StandardCharsets.UTF_8);
+        String forged = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                raw.replaceFirst("\\|-?\\d+$", "|99999999").getBytes(StandardCharsets.UTF_8)) + "." + parts[1];
+        mockMvc.perform(get("/users/" + payer.getId() + "/transactions").param("cursor", forged))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/users/" + payee.getId() + "/transactions").param("cursor", cursor))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/users/" + payer.getId() + "/transactions").param("cursor", cursor))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void statementForUnknownUserIsNotFound() throws Exception {
+        mockMvc.perform(get("/users/999999/transactions")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void amountsKeepTheirDecimalJsonShape() throws Exception {
+        String body = "{\"value\": 10.5, \"payerId\": " + payer.getId() + ", \"payeeId\": " + payee.getId() + "}";
+        MvcResult created = mockMvc.perform(post("/transactions").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(created.getResponse().getContentAsString()).contains("\"amount\":10.50");
+        assertThat(userService.findBalance(payer.getId())).isEqualTo(Money.parse("82.50"));
+    }
+
+    @Test
+    void fractionsOfACentAreRejected() throws Exception {
+        String body = "{\"value\": 10.005, \"payerId\": " + payer.getId() + ", \"payeeId\": " + payee.getId() + "}";
+        mockMvc.perform(post("/transactions").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void floodFromOnePayerIsTurnedAwayWithRetryAfter() throws Exception {
+        String body = "{\"value\": 1, \"payerId\": " + payer.getId() + ", \"payeeId\": " + payee.getId() + "}";
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/transactions").contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(post("/transactions").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"));
+
+        // another payer still has its own bucket
+        String other = "{\"value\": 1, \"payerId\": " + payee.getId() + ", \"payeeId\": " + payer.getId() + "}";
+        mockMvc.perform(post("/transactions").contentType(MediaType.APPLICATION_JSON).content(other))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void batchCountsAgainstEveryPayerInIt() throws Exception {
+        String body = "{\"value\": 1, \"payerId\": " + payer.getId() + ", \"payeeId\": " + payee.getId() + "}";
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/transactions").contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isOk());
+        }
+
+        String batch = "{\"transfers\": [{\"value\": 1, \"payerId\": " + payee.getId() + ", \"payeeId\": "
+                + payer.getId() + "}, " + body + "]}";
+        mockMvc.perform(post("/transactions/batch").contentType(MediaType.APPLICATION_JSON).content(batch))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+    }
+
+    @Test
+    void exposesStageTimersForPrometheus() throws Exception {
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("transfer_stage_seconds_bucket{")
+                .contains("stage=\"authorize\"")
+                .contains("stage=\"flush\"");
+    }
+
+    private JsonNode read(MvcResult result) throws Exception {
+        return jsonMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private User createUser() {
+        String id = UUID.randomUUID().toString();
+        return userService.createUser(new UserDTO("History", id, id, Money.parse("100.00"), "secret",
+                id + "@example.com", UserType.COMMON));
+    }
+}
@@ -0,0 +1,136 @@
+package com.simplifiedTransferSystemSpring.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.domain.user.UserType;
+import com.simplifiedTransferSystemSpring.dtos.UserDTO;
+import com.simplifiedTransferSystemSpring.repositories.UserRepository;
+import com.simplifiedTransferSystemSpring.services.BalanceJournal;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-controller-test",
+        "spring.jpa.show-sql=false",
+        "notification.dispatcher.enabled=false",
+        "users.import.chunk-size=2"
+})
+@AutoConfigureMockMvc
+class UserControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BalanceJournal balanceJournal;
+
+    @Test
+    void responsesNeverExposeCredentials() throws Exception {
+        String id = UUID.randomUUID().toString();
+        UserDTO user = new UserDTO("Ana", "Silva", id, Money.parse("10.00"), "secret", id + "@example.com",
+                UserType.COMMON);
+
+        String created = mockMvc.perform(post("/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonMapper.writeValueAsString(user)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode node = jsonMapper.readTree(created);
+        assertThat(node.has("id")).isTrue();
+        assertThat(node.has("password")).isFalse();
+        assertThat(node.has("document")).isFalse();
+
+        String listed = mockMvc.perform(get("/users"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(listed).contains(id + "@example.com").doesNotContain("secret");
+    }
+
+    @Test
+    void balanceEndpointTakesAConsistencyLevel() throws Exception {
+        String id = UUID.randomUUID().toString();
+        String created = mockMvc.perform(post("/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonMapper.writeValueAsString(new UserDTO("Ana", "Silva", id, Money.parse("12.34"),
+                                "secret", id + "@example.com", UserType.COMMON))))
+                .andReturn().getResponse().getContentAsString();
+        long userId = jsonMapper.readTree(created).get("id").asLong();
+
+        for (String query : new String[] { "", "?consistency=strong" }) {
+            String balance = mockMvc.perform(get("/users/" + userId + "/balance" + query))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            assertThat(jsonMapper.readTree(balance).get("balance").asString()).isEqualTo("12.34");
+        }
+        mockMvc.perform(get("/users/" + userId + "/balance?consistency=exact")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/users/" + Long.MAX_VALUE + "/balance")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void csvImportInsertsValidRowsAndReportsTheRest() throws Exception {
+        String id = UUID.randomUUID().toString();
+        String csv = String.join("\n",
+                "email,document,firstName,lastName,balance,password,userType",
+                id + "-1@example.com," + id + "-1,Ana,\"Silva, Jr.\",10.50,secret,COMMON",
+                id + "-2@example.com," + id + "-2,Bia,Souza,0,secret,MERCHANT",
+                id + "-3@example.com," + id + "-1,Caio,Lima,1.00,secret,COMMON",
+                id + "-4@example.com," + id + "-4,Davi,Reis,1.005,secret,COMMON",
+                "",
+                id + "-5@example.com," + id + "-5,Eva,Melo,3.00,secret,ADMIN",
+                id + "-6@example.com," + id + "-6,Fabio,Rocha,7.00,secret,COMMON");
+
+        String result = mockMvc.perform(post("/users/import").contentType("text/csv").content(csv))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode node = jsonMapper.readTree(result);
+        assertThat(node.get("imported").asLong()).isEqualTo(3);
+        assertThat(node.get("rejected").asLong()).isEqualTo(3);
+        // parse errors are reported as the line is read, duplicates when its chunk is inserted
+        assertThat(node.get("errors").findValuesAsString("line")).containsExactlyInAnyOrder("4", "5", "7");
+        assertThat(node.get("errors").findValuesAsString("error")).anyMatch(e -> e.startsWith("Document already"));
+
+        Long imported = userRepository.findUserByDocument(id + "-1").orElseThrow().getId();
+        assertThat(userRepository.findUserByDocument(id + "-1").orElseThrow().getLastName()).isEqualTo("Silva, Jr.");
+        assertThat(balanceJournal.rebuildBalance(imported)).isEqualTo(Money.parse("10.50"));
+    }
+
+    @Test
+    void ndjsonImportSkipsMalformedLines() throws Exception {
+        String id = UUID.randomUUID().toString();
+        String ndjson = String.join("\n",
+                "{\"firstName\":\"Ana\",\"document\":\"" + id + "\",\"email\":\"" + id
+                        + "@example.com\",\"balance\":5,\"userType\":\"COMMON\"}",
+                "{\"firstName\":",
+                "{\"firstName\":\"Bia\",\"document\":\"" + id + "-b\",\"email\":\"" + id
+                        + "@example.com\",\"balance\":5,\"userType\":\"COMMON\"}");
+
+        String result = mockMvc.perform(post("/users/import").contentType("application/x-ndjson").content(ndjson))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode node = jsonMapper.readTree(result);
+        assertThat(node.get("imported").asLong()).isEqualTo(1);
+        assertThat(node.get("errors").findValuesAsString("line")).containsExactly("2", "3");
+    }
+}
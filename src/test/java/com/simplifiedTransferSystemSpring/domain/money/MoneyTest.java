@@ -0,0 +1,83 @@
+package com.simplifiedTransferSystemSpring.domain.money;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Randomized checks that {@link Money} gives exactly the results of the
+ * {@code BigDecimal} arithmetic it replaces, including near the limits of
+ * {@code long}.
+ */
+class MoneyTest {
+
+    private static final int SAMPLES = 100_000;
+
+    private static final BigDecimal MIN = BigDecimal.valueOf(Long.MIN_VALUE, 2);
+    private static final BigDecimal MAX = BigDecimal.valueOf(Long.MAX_VALUE, 2);
+
+    private final Random random = new Random(20240616);
+
+    @Test
+    void arithmeticMatchesBigDecimal() {
+        for (int i = 0; i < SAMPLES; i++) {
+            long a = sample();
+            long b = sample();
+            BigDecimal x = BigDecimal.valueOf(a, 2);
+            BigDecimal y = BigDecimal.valueOf(b, 2);
+
+            assertThat(Money.ofCents(a).compareTo(Money.ofCents(b))).isEqualTo(x.compareTo(y));
+            assertThat(Money.ofCents(a).isLessThan(Money.ofCents(b))).isEqualTo(x.compareTo(y) < 0);
+            assertThat(Money.ofCents(a).signum()).isEqualTo(x.signum());
+            assertSameResult(x.add(y), () -> Money.ofCents(a).plus(Money.ofCents(b)));
+            assertSameResult(x.subtract(y), () -> Money.ofCents(a).minus(Money.ofCents(b)));
+            assertSameResult(x.negate(), () -> Money.ofCents(a).negate());
+        }
+    }
+
+    @Test
+    void roundTripsThroughBigDecimalAndText() {
+        for (int i = 0; i < SAMPLES; i++) {
+            Money money = Money.ofCents(sample());
+            BigDecimal decimal = money.toBigDecimal();
+
+            assertThat(Money.of(decimal)).isEqualTo(money);
+            assertThat(Money.parse(money.toString())).isEqualTo(money);
+            // a database or client may hand back the same amount at another scale
+            assertThat(Money.of(decimal.setScale(6))).isEqualTo(money);
+            assertThat(Money.of(decimal.stripTrailingZeros())).isEqualTo(money);
+        }
+    }
+
+    @Test
+    void rejectsFractionsOfACentAndOutOfRangeAmounts() {
+        assertThatThrownBy(() -> Money.parse("0.001")).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.parse("10.505")).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of(MAX.add(BigDecimal.valueOf(1, 2)))).isInstanceOf(ArithmeticException.class);
+        assertThat(Money.parse("10.500")).isEqualTo(Money.ofCents(1050));
+        assertThat(Money.parse("1e2")).isEqualTo(Money.ofCents(100_00));
+    }
+
+    private void assertSameResult(BigDecimal expected, Supplier<Money> actual) {
+        if (expected.compareTo(MIN) < 0 || expected.compareTo(MAX) > 0) {
+            assertThatThrownBy(actual::get).isInstanceOf(ArithmeticException.class);
+        } else {
+            assertThat(actual.get().toBigDecimal()).isEqualTo(expected);
+        }
+    }
+
+    // mostly everyday amounts, with a share of values at the edges of the long range
+    private long sample() {
+        return switch (this.random.nextInt(4)) {
+            case 0 -> this.random.nextLong(-1_000_000_00L, 1_000_000_00L);
+            case 1 -> this.random.nextLong();
+            case 2 -> Long.MAX_VALUE - this.random.nextInt(1000);
+            default -> Long.MIN_VALUE + this.random.nextInt(1000);
+        };
+    }
+}
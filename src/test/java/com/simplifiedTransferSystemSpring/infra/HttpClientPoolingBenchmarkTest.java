@@ -0,0 +1,84 @@
+package com.simplifiedTransferSystemSpring.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import com.simplifiedTransferSystemSpring.support.LatencyStats;
+import com.simplifiedTransferSystemSpring.support.StubHttpServer;
+
+/**
+ * Compares the old {@code SimpleClientHttpRequestFactory} setup with the
+ * pooled client from {@link AppConfig} against a local stub endpoint.
+ * Run with {@code ./mvnw test -Pbenchmark -Dtest=HttpClientPoolingBenchmarkTest}.
+ */
+@Tag("benchmark")
+class HttpClientPoolingBenchmarkTest {
+
+    private static final int REQUESTS = 20_000;
+    private static final int CONCURRENCY = 32;
+
+    @Test
+    void pooledClientAgainstSimpleFactory() throws Exception {
+        try (StubHttpServer stub = StubHttpServer.start()) {
+            stub.respond(200, "{\"status\":\"success\",\"data\":{\"authorization\":true}}");
+            String url = stub.url("/api/v2/authorize");
+
+            SimpleClientHttpRequestFactory simple = new SimpleClientHttpRequestFactory();
+            simple.setConnectTimeout(2000);
+            simple.setReadTimeout(5000);
+            RestTemplate simpleTemplate = new RestTemplate(simple);
+
+            HttpClientProperties properties = new HttpClientProperties(200, 64, 2000, 500, 30, 60, 10);
+            AppConfig config = new AppConfig();
+            try (CloseableHttpClient httpClient = config.pooledHttpClient(properties)) {
+                HttpComponentsClientHttpRequestFactory pooled = new HttpComponentsClientHttpRequestFactory(httpClient);
+                pooled.setConnectionRequestTimeout(properties.connectionRequestTimeoutMs());
+                pooled.setReadTimeout(5000);
+                RestTemplate pooledTemplate = new RestTemplate(pooled);
+
+                // warm-up both paths before measuring
+                run(simpleTemplate, url, 2_000);
+                run(pooledTemplate, url, 2_000);
+
+                report("SimpleClientHttpRequestFactory", simpleTemplate, url);
+                report("pooled HttpClient 5", pooledTemplate, url);
+            }
+        }
+    }
+
+    private void report(String label, RestTemplate template, String url) throws InterruptedException {
+        long start = System.nanoTime();
+        LatencyStats stats = run(template, url, REQUESTS);
+        System.out.println(stats.summary(label, System.nanoTime() - start));
+        assertThat(stats.errors()).isZero();
+    }
+
+    private LatencyStats run(RestTemplate template, String url, int requests) throws InterruptedException {
+        LatencyStats stats = new LatencyStats(requests);
+        ExecutorService pool = Executors.newFixedThreadPool(CONCURRENCY);
+        for (int i = 0; i < requests; i++) {
+            pool.execute(() -> {
+                long start = System.nanoTime();
+                try {
+                    template.getForObject(url, String.class);
+                    stats.record(System.nanoTime() - start);
+                } catch (RuntimeException e) {
+                    stats.error();
+                }
+            });
+        }
+        pool.shutdown();
+        pool.awaitTermination(5, TimeUnit.MINUTES);
+        return stats;
+    }
+}
@@ -0,0 +1,42 @@
+package com.simplifiedTransferSystemSpring.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class PayerRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    // 2 per second, bursts of 3, buckets dropped after 10s full
+    private final PayerRateLimiter limiter = new PayerRateLimiter(2, 3, 4, 10 * SECOND);
+
+    @Test
+    void allowsTheBurstThenRefillsAtTheRate() {
+        long now = 0;
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(1L, now)).isZero();
+        }
+        assertThat(limiter.tryAcquire(1L, now)).isEqualTo(SECOND / 2);
+        assertThat(limiter.tryAcquire(2L, now)).isZero();
+
+        assertThat(limiter.tryAcquire(1L, now + SECOND / 2)).isZero();
+        assertThat(limiter.tryAcquire(1L, now + SECOND / 2)).isPositive();
+    }
+
+    @Test
+    void evictsOnlyBucketsThatHaveBeenFullForTheIdlePeriod() {
+        limiter.tryAcquire(1L, 0);
+        limiter.tryAcquire(2L, 9 * SECOND);
+
+        int evicted = 0;
+        for (int stripe = 0; stripe < limiter.stripeCount(); stripe++) {
+            evicted += limiter.evictIdle(stripe, 11 * SECOND);
+        }
+
+        assertThat(evicted).isEqualTo(1);
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+}
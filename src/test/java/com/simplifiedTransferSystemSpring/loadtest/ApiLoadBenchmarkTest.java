@@ -0,0 +1,233 @@
+package com.simplifiedTransferSystemSpring.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.simplifiedTransferSystemSpring.SimplifiedTransferSystemSpringApplication;
+import com.simplifiedTransferSystemSpring.support.LatencyStats;
+
+/**
+ * Repeatable load test of {@code POST /users} and {@code POST /transactions}
+ * at each concurrency level in {@code loadtest.concurrency}, with
+ * {@code loadtest.requests} requests per level from that many closed-loop
+ * clients. Prints throughput, p50/p99 latency of the successful requests,
+ * the error rate and the status codes seen, and appends the same numbers to
+ * {@code target/loadtest/<loadtest.label>.csv} so runs of different builds
+ * or configurations can be put side by side.
+ * <p>
+ * Without {@code loadtest.base-url} the application is started in-process
+ * with the {@code loadtest} profile (stub authorizer and notifier) plus any
+ * profiles in {@code loadtest.profiles}; {@code stub.*} and other properties
+ * given with {@code -D} apply to it. With a base URL, an application already
+ * running (for example a jar of another build with
+ * {@code --spring.profiles.active=loadtest}) is measured instead:
+ * <pre>
+ * ./mvnw test -Pbenchmark -Dtest=ApiLoadBenchmarkTest -Dloadtest.label=main -Dloadtest.profiles=perf -Dstub.latency-ms=20
+ * </pre>
+ */
+@Tag("benchmark")
+class ApiLoadBenchmarkTest {
+
+    private static final Pattern USER_ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private static final String LABEL = System.getProperty("loadtest.label", "local");
+    private static final int[] CONCURRENCY = Arrays.stream(System.getProperty("loadtest.concurrency", "1,8,32,128")
+            .split(",")).mapToInt(level -> Integer.parseInt(level.trim())).toArray();
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 2_000);
+    private static final int WARMUP = Integer.getInteger("loadtest.warmup", 500);
+
+    private static ConfigurableApplicationContext application;
+    private static String baseUrl;
+    private static String target;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    // wallets created by the users scenario, used as payers and payees by the transfer scenario
+    private final List<Long> wallets = new CopyOnWriteArrayList<>();
+
+    @BeforeAll
+    static void startApplication() {
+        baseUrl = System.getProperty("loadtest.base-url", "");
+        if (!baseUrl.isBlank()) {
+            target = "external";
+            return;
+        }
+
+        List<String> profiles = new ArrayList<>(List.of("loadtest"));
+        Arrays.stream(System.getProperty("loadtest.profiles", "").split(","))
+                .map(String::trim).filter(profile -> !profile.isEmpty()).forEach(profiles::add);
+        // command-line arguments, so they win over the profile files
+        application = new SpringApplicationBuilder(SimplifiedTransferSystemSpringApplication.class)
+                .profiles(profiles.toArray(String[]::new))
+                .run("--server.port=0", "--stub.port=" + freePort());
+        baseUrl = "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+        target = String.join("+", profiles);
+    }
+
+    @AfterAll
+    static void stopApplication() {
+        if (application != null) {
+            application.close();
+        }
+    }
+
+    @Test
+    void usersAndTransfersAtEachConcurrencyLevel() throws Exception {
+        run("warmup users", 8, WARMUP, this::createUser, 201);
+        for (int concurrency : CONCURRENCY) {
+            report("POST /users", concurrency, run("POST /users", concurrency, REQUESTS, this::createUser, 201));
+        }
+        assertThat(wallets).hasSizeGreaterThan(1);
+
+        run("warmup transfers", 8, WARMUP, this::transfer, 200);
+        for (int concurrency : CONCURRENCY) {
+            report("POST /transactions", concurrency,
+                    run("POST /transactions", concurrency, REQUESTS, this::transfer, 200));
+        }
+    }
+
+    private HttpRequest createUser(int i) {
+        String id = UUID.randomUUID().toString();
+        String body = String.format("{\"firstName\":\"Load\",\"lastName\":\"%s\",\"document\":\"%s\","
+                + "\"email\":\"%s@example.com\",\"balance\":1000000.00,\"password\":\"secret\",\"userType\":\"%s\"}",
+                id, id, id, i % 10 == 0 ? "MERCHANT" : "COMMON");
+        return post("/users", body);
+    }
+
+    private HttpRequest transfer(int i) {
+        // spreads payers evenly, so the per-payer rate limit is not what gets measured
+        List<Long> ids = this.wallets;
+        long payer = ids.get((i * 7 + 1) % ids.size());
+        long payee = ids.get((i * 13 + 5) % ids.size());
+        return post("/transactions", String.format("{\"payerId\":%d,\"payeeId\":%d,\"value\":0.01}", payer, payee));
+    }
+
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private Result run(String scenario, int concurrency, int requests, IntFunction<HttpRequest> nextRequest,
+            int expectedStatus) throws InterruptedException {
+        LatencyStats stats = new LatencyStats(requests);
+        Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        AtomicInteger next = new AtomicInteger();
+
+        List<Thread> clients = new ArrayList<>(concurrency);
+        long start = System.nanoTime();
+        for (int c = 0; c < concurrency; c++) {
+            Thread worker = new Thread(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < requests) {
+                    HttpRequest request = nextRequest.apply(i);
+                    long sent = System.nanoTime();
+                    int status;
+                    try {
+                        HttpResponse<String> response = this.client.send(request, HttpResponse.BodyHandlers.ofString());
+                        status = response.statusCode();
+                        if (status == 201) {
+                            rememberWallet(response.body(), i);
+                        }
+                    } catch (IOException e) {
+                        status = -1;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+                    if (status == expectedStatus) {
+                        stats.record(System.nanoTime() - sent);
+                    } else {
+                        stats.error();
+                    }
+                }
+            }, "load-client-" + c);
+            worker.start();
+            clients.add(worker);
+        }
+        for (Thread worker : clients) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Map<Integer, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(status, count.sum()));
+        System.out.println(stats.summary(scenario + " @" + concurrency, elapsed) + "  statuses " + counts);
+        return new Result(stats, elapsed, counts);
+    }
+
+    private void rememberWallet(String body, int i) {
+        // only common users can pay; merchants (every tenth) still receive from the others
+        Matcher matcher = USER_ID.matcher(body);
+        if (i % 10 != 0 && matcher.find()) {
+            this.wallets.add(Long.parseLong(matcher.group(1)));
+        }
+    }
+
+    private void report(String scenario, int concurrency, Result result) throws IOException {
+        Path file = Path.of("target", "loadtest", LABEL + ".csv");
+        Files.createDirectories(file.getParent());
+        if (Files.notExists(file)) {
+            Files.writeString(file, "label,target,scenario,concurrency,requests,seconds,throughput_rps,p50_ms,p99_ms,"
+                    + "error_pct,statuses\n");
+        }
+        String statuses = result.statuses().entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .reduce((a, b) -> a + " " + b).orElse("");
+        String line = String.format(Locale.ROOT, "%s,%s,%s,%d,%d,%.2f,%.1f,%.2f,%.2f,%.2f,%s%n",
+                LABEL, target, scenario, concurrency, result.stats().count() + result.stats().errors(),
+                result.elapsedNanos() / 1_000_000_000d, result.stats().throughput(result.elapsedNanos()),
+                result.stats().percentileMillis(50), result.stats().percentileMillis(99),
+                result.stats().errorPercent(), statuses);
+        Files.writeString(file, line, StandardOpenOption.APPEND);
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Result(LatencyStats stats, long elapsedNanos, Map<Integer, Long> statuses) {
+    }
+}
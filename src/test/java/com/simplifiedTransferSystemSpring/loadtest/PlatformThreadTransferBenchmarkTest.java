@@ -0,0 +1,9 @@
+package com.simplifiedTransferSystemSpring.loadtest;
+
+class PlatformThreadTransferBenchmarkTest extends TransferLoadBenchmark {
+
+    @Override
+    protected String label() {
+        return "platform threads";
+    }
+}
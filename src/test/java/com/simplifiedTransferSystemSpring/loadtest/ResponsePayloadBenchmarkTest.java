@@ -0,0 +1,97 @@
+package com.simplifiedTransferSystemSpring.loadtest;
+
+import static org.mockito.Mockito.when;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.domain.transaction.Transaction;
+import com.simplifiedTransferSystemSpring.domain.user.User;
+import com.simplifiedTransferSystemSpring.domain.user.UserType;
+import com.simplifiedTransferSystemSpring.dtos.TransactionDTO;
+import com.simplifiedTransferSystemSpring.dtos.TransactionSummaryDTO;
+import com.simplifiedTransferSystemSpring.dtos.UserDTO;
+import com.simplifiedTransferSystemSpring.repositories.UserRepository;
+import com.simplifiedTransferSystemSpring.services.AuthorizationClient;
+import com.simplifiedTransferSystemSpring.services.TransactionService;
+import com.simplifiedTransferSystemSpring.services.UserService;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Bytes on the wire and bytes allocated per request for the old entity
+ * responses against the projection records now returned by the controllers.
+ * Run with {@code ./mvnw test -Pbenchmark -Dtest=ResponsePayloadBenchmarkTest}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:response-payload-benchmark",
+        "spring.jpa.show-sql=false",
+        "notification.dispatcher.enabled=false"
+})
+class ResponsePayloadBenchmarkTest {
+
+    private static final int USERS = 500;
+    private static final int ITERATIONS = 200;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @MockitoBean
+    private AuthorizationClient authorizationClient;
+
+    @Test
+    void entityResponsesAgainstProjections() {
+        when(authorizationClient.authorize()).thenReturn(true);
+        for (int i = 0; i < USERS; i++) {
+            String id = UUID.randomUUID().toString();
+            userService.createUser(new UserDTO("Bench", id, id, Money.parse("1000.00"), "secret",
+                    id + "@example.com", UserType.COMMON));
+        }
+        List<User> users = userRepository.findAll();
+        Transaction transfer = transactionService.createTransaction(
+                new TransactionDTO(Money.ofCents(100), users.get(0).getId(), users.get(1).getId()));
+
+        measure("GET /users (entities)", () -> userRepository.findAll());
+        measure("GET /users (projection)", () -> userService.getAllUsers());
+        measure("POST /transactions (entity)", () -> transfer);
+        measure("POST /transactions (record)", () -> TransactionSummaryDTO.of(transfer));
+    }
+
+    private void measure(String label, Supplier<Object> request) {
+        for (int i = 0; i < ITERATIONS; i++) {
+            jsonMapper.writeValueAsBytes(request.get());
+        }
+
+        long bytes = 0;
+        long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            bytes += jsonMapper.writeValueAsBytes(request.get()).length;
+        }
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        System.out.printf("%-30s %,10d bytes/response %,12d bytes allocated/request%n",
+                label, bytes / ITERATIONS, allocated / ITERATIONS);
+    }
+}
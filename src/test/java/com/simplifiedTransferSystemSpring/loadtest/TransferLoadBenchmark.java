@@ -0,0 +1,117 @@
+package com.simplifiedTransferSystemSpring.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.domain.user.UserType;
+import com.simplifiedTransferSystemSpring.dtos.UserDTO;
+import com.simplifiedTransferSystemSpring.services.UserService;
+import com.simplifiedTransferSystemSpring.support.LatencyStats;
+import com.simplifiedTransferSystemSpring.support.StubHttpServer;
+
+/**
+ * Drives {@code POST /transactions} with {@value #IN_FLIGHT} concurrent
+ * requests against a stub authorizer that answers after
+ * {@value #AUTHORIZER_DELAY_MS} ms, so request threads spend most of their
+ * time blocked the way they do in production. Subclasses pick the
+ * threading mode; compare their output lines.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "notification.dispatcher.enabled=false",
+        "transfer.admission.enabled=false",
+        "spring.datasource.hikari.maximum-pool-size=20"
+})
+abstract class TransferLoadBenchmark {
+
+    private static final int WALLETS = 200;
+    private static final int REQUESTS = 5_000;
+    private static final int IN_FLIGHT = 1_000;
+    private static final long AUTHORIZER_DELAY_MS = 50;
+
+    private static final StubHttpServer AUTHORIZER = StubHttpServer.start()
+            .respond(200, "{\"status\":\"success\",\"data\":{\"authorization\":true}}")
+            .delay(AUTHORIZER_DELAY_MS);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserService userService;
+
+    @DynamicPropertySource
+    static void authorizer(DynamicPropertyRegistry registry) {
+        registry.add("authorizer.url", () -> AUTHORIZER.url("/api/v2/authorize"));
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:load-" + UUID.randomUUID());
+    }
+
+    protected abstract String label();
+
+    @Test
+    void concurrentTransfers() throws Exception {
+        List<Long> wallets = new ArrayList<>(WALLETS);
+        for (int i = 0; i < WALLETS; i++) {
+            String id = UUID.randomUUID().toString();
+            wallets.add(userService.createUser(new UserDTO("Load", id, id, Money.parse("1000000.00"),
+                    "secret", id + "@example.com", UserType.COMMON)).getId());
+        }
+
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(32);
+        HttpClient client = HttpClient.newBuilder().executor(clientExecutor).build();
+        URI uri = URI.create("http://localhost:" + port + "/transactions");
+        LatencyStats stats = new LatencyStats(REQUESTS);
+        Semaphore inFlight = new Semaphore(IN_FLIGHT);
+        List<CompletableFuture<?>> calls = new ArrayList<>(REQUESTS);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String body = String.format("{\"payerId\":%d,\"payeeId\":%d,\"value\":1.00}",
+                    wallets.get(random.nextInt(WALLETS)), wallets.get(random.nextInt(WALLETS)));
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+
+            inFlight.acquire();
+            long sent = System.nanoTime();
+            calls.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        inFlight.release();
+                        if (error == null && response.statusCode() == 200) {
+                            stats.record(System.nanoTime() - sent);
+                        } else {
+                            stats.error();
+                        }
+                    }));
+        }
+        CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+        long elapsed = System.nanoTime() - start;
+        clientExecutor.shutdown();
+
+        System.out.println(stats.summary(label() + " @" + IN_FLIGHT, elapsed));
+        assertThat(stats.count()).isPositive();
+    }
+}
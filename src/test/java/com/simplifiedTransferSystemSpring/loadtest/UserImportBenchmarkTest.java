@@ -0,0 +1,114 @@
+package com.simplifiedTransferSystemSpring.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.simplifiedTransferSystemSpring.repositories.UserRepository;
+
+/**
+ * Streams {@value #DEFAULT_ROWS} generated users (override with
+ * {@code -Dimport.rows=...}) through {@code POST /users/import} as chunked
+ * NDJSON, so neither side ever holds the file. Run with
+ * {@code ./mvnw test -Pbenchmark -Dtest=UserImportBenchmarkTest}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-import-benchmark",
+        "spring.jpa.show-sql=false",
+        "notification.dispatcher.enabled=false",
+        "ledger.snapshot.enabled=false",
+        "ledger.reconciliation.enabled=false"
+})
+class UserImportBenchmarkTest {
+
+    private static final int DEFAULT_ROWS = 1_000_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void importsAMillionUsers() throws Exception {
+        int rows = Integer.getInteger("import.rows", DEFAULT_ROWS);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/users/import"))
+                .header("Content-Type", "application/x-ndjson")
+                .timeout(Duration.ofHours(1))
+                .POST(HttpRequest.BodyPublishers.ofInputStream(() -> new GeneratedUsers(rows)))
+                .build();
+
+        long start = System.nanoTime();
+        HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        Runtime runtime = Runtime.getRuntime();
+        System.out.printf("user import: %d rows in %.1f s (%.0f rows/s), heap used %d MiB%n", rows,
+                elapsedMillis / 1000.0, rows * 1000.0 / elapsedMillis,
+                (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024));
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(userRepository.count()).isEqualTo(rows);
+    }
+
+    /** NDJSON users produced on demand, one line at a time. */
+    private static final class GeneratedUsers extends InputStream {
+
+        private final int rows;
+        private int next;
+        private byte[] line = new byte[0];
+        private int position;
+
+        private GeneratedUsers(int rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public int read() {
+            if (!fill()) {
+                return -1;
+            }
+            return this.line[this.position++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (!fill()) {
+                return -1;
+            }
+            int count = Math.min(length, this.line.length - this.position);
+            System.arraycopy(this.line, this.position, buffer, offset, count);
+            this.position += count;
+            return count;
+        }
+
+        private boolean fill() {
+            if (this.position < this.line.length) {
+                return true;
+            }
+            if (this.next == this.rows) {
+                return false;
+            }
+            int i = this.next++;
+            this.line = ("{\"firstName\":\"Load\",\"lastName\":\"User " + i + "\",\"document\":\"doc-" + i
+                    + "\",\"email\":\"user" + i + "@example.com\",\"balance\":100.00,\"password\":\"secret\","
+                    + "\"userType\":\"" + (i % 10 == 0 ? "MERCHANT" : "COMMON") + "\"}\n")
+                    .getBytes(StandardCharsets.UTF_8);
+            this.position = 0;
+            return true;
+        }
+    }
+}
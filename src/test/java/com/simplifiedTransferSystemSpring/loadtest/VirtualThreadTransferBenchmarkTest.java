@@ -0,0 +1,15 @@
+package com.simplifiedTransferSystemSpring.loadtest;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("virtual")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadTransferBenchmarkTest extends TransferLoadBenchmark {
+
+    @Override
+    protected String label() {
+        return "virtual threads";
+    }
+}
@@ -0,0 +1,165 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import com.simplifiedTransferSystemSpring.infra.AuthorizerProperties;
+import com.simplifiedTransferSystemSpring.services.AuthorizationClient.CircuitState;
+import com.simplifiedTransferSystemSpring.support.StubHttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AuthorizationClientTest {
+
+    private static final String AUTHORIZED = "{\"status\":\"success\",\"data\":{\"authorization\":true}}";
+    private static final String DENIED = "{\"status\":\"fail\",\"data\":{\"authorization\":false}}";
+
+    private StubHttpServer authorizer;
+    private AuthorizationClient client;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        authorizer = StubHttpServer.start();
+        meterRegistry = new SimpleMeterRegistry();
+        client = newClient(1, 2, 200);
+    }
+
+    @AfterEach
+    void tearDown() {
+        authorizer.close();
+    }
+
+    @Test
+    void authorizesWhenAuthorizerApproves() {
+        authorizer.respond(200, AUTHORIZED);
+
+        assertThat(client.authorize()).isTrue();
+        assertThat(client.getMetrics().misses()).isEqualTo(1);
+    }
+
+    @Test
+    void denialIsNotCountedAsOutage() {
+        authorizer.respond(403, DENIED);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(client.authorize()).isFalse();
+        }
+
+        assertThat(client.getState()).isEqualTo(CircuitState.CLOSED);
+        assertThat(authorizer.requestCount()).isEqualTo(5);
+    }
+
+    @Test
+    void openCircuitFailsFastWithoutCallingAuthorizer() {
+        authorizer.respond(500, "{}");
+        client.authorize();
+        client.authorize();
+        assertThat(client.getState()).isEqualTo(CircuitState.OPEN);
+
+        int before = authorizer.requestCount();
+        long start = System.nanoTime();
+        assertThat(client.authorize()).isFalse();
+
+        assertThat(System.nanoTime() - start).isLessThan(50_000_000L);
+        assertThat(authorizer.requestCount()).isEqualTo(before);
+        assertThat(client.getMetrics().trips()).isEqualTo(1);
+        assertThat(client.getMetrics().rejected()).isEqualTo(1);
+        assertThat(meterRegistry.get("authorizer.attempt").tag("outcome", "error").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("authorizer.circuit.state").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void halfOpenProbeClosesCircuitOnRecovery() throws InterruptedException {
+        authorizer.respond(500, "{}");
+        client.authorize();
+        client.authorize();
+        assertThat(client.getState()).isEqualTo(CircuitState.OPEN);
+
+        authorizer.respond(200, AUTHORIZED);
+        Thread.sleep(250);
+
+        assertThat(client.authorize()).isTrue();
+        assertThat(client.getState()).isEqualTo(CircuitState.CLOSED);
+    }
+
+    @Test
+    void clientErrorOtherThanForbiddenCountsAsFailure() {
+        authorizer.respond(404, "{}");
+        client.authorize();
+        client.authorize();
+
+        assertThat(client.getState()).isEqualTo(CircuitState.OPEN);
+        assertThat(meterRegistry.get("authorizer.attempt").tag("outcome", "error").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void unexpectedExceptionDuringProbeReopensCircuit() throws InterruptedException {
+        AtomicBoolean broken = new AtomicBoolean();
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add((request, body, execution) -> {
+            if (broken.get()) {
+                throw new IllegalStateException("broken interceptor");
+            }
+            return execution.execute(request, body);
+        });
+        client = new AuthorizationClient(restTemplate, new AuthorizerProperties(authorizer.url("/api/v2/authorize"),
+                1, 2000, 10, 1000, 2, 200, 0), new SimpleMeterRegistry());
+
+        authorizer.respond(500, "{}");
+        client.authorize();
+        client.authorize();
+        assertThat(client.getState()).isEqualTo(CircuitState.OPEN);
+
+        broken.set(true);
+        Thread.sleep(250);
+        assertThatThrownBy(client::authorize).isInstanceOf(IllegalStateException.class);
+        assertThat(client.getState()).isEqualTo(CircuitState.OPEN);
+
+        broken.set(false);
+        authorizer.respond(200, AUTHORIZED);
+        Thread.sleep(250);
+        assertThat(client.authorize()).isTrue();
+        assertThat(client.getState()).isEqualTo(CircuitState.CLOSED);
+    }
+
+    @Test
+    void concurrentCallersShareInFlightRequest() throws Exception {
+        authorizer.respond(200, AUTHORIZED).delay(300);
+        ExecutorService pool = Executors.newFixedThreadPool(10);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            results.add(pool.submit(client::authorize));
+        }
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+        pool.shutdown();
+
+        assertThat(authorizer.requestCount()).isLessThan(10);
+        assertThat(client.getMetrics().hits()).isPositive();
+    }
+
+    private AuthorizationClient newClient(int maxAttempts, int failureThreshold, long openDurationMs) {
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(500);
+        factory.setReadTimeout(1000);
+        AuthorizerProperties properties = new AuthorizerProperties(authorizer.url("/api/v2/authorize"),
+                maxAttempts, 2000, 10, 1000, failureThreshold, openDurationMs, 0);
+        return new AuthorizationClient(new RestTemplate(factory), properties, meterRegistry);
+    }
+}
@@ -0,0 +1,135 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.simplifiedTransferSystemSpring.domain.ledger.LedgerPosting;
+import com.simplifiedTransferSystemSpring.domain.ledger.PostingType;
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.domain.transaction.BatchMode;
+import com.simplifiedTransferSystemSpring.domain.user.User;
+import com.simplifiedTransferSystemSpring.dtos.BatchTransferDTO;
+import com.simplifiedTransferSystemSpring.dtos.TransactionDTO;
+import com.simplifiedTransferSystemSpring.repositories.LedgerPostingRepository;
+import com.simplifiedTransferSystemSpring.repositories.UserRepository;
+import com.simplifiedTransferSystemSpring.services.BalanceJournal.ReconciliationChunk;
+import com.simplifiedTransferSystemSpring.services.BalanceJournal.SnapshotRun;
+import com.simplifiedTransferSystemSpring.support.TransferIntegrationTest;
+
+class BalanceJournalTest extends TransferIntegrationTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LedgerPostingRepository postingRepository;
+
+    @Autowired
+    private BalanceJournal balanceJournal;
+
+    @Autowired
+    private BalanceJournalScheduler scheduler;
+
+    private User alice;
+    private User bob;
+    private User carol;
+
+    @BeforeEach
+    void setUp() {
+        alice = users.create("100.00");
+        bob = users.create("50.00");
+        carol = users.create("0.00");
+    }
+
+    @Test
+    void snapshotPlusTailRebuildsEveryBalance() {
+        transactionService.createTransaction(new TransactionDTO(Money.parse("30.00"), alice.getId(), bob.getId()));
+        assertThat(scheduler.snapshotAll()).isGreaterThanOrEqualTo(2);
+
+        transactionService.createBatch(new BatchTransferDTO(BatchMode.ALL_OR_NOTHING, List.of(
+                new TransactionDTO(Money.parse("20.00"), bob.getId(), carol.getId()),
+                new TransactionDTO(Money.parse("5.00"), carol.getId(), alice.getId()))));
+        scheduler.snapshotAll();
+        transactionService.createTransaction(new TransactionDTO(Money.parse("1.50"), alice.getId(), alice.getId()));
+
+        for (User user : List.of(alice, bob, carol)) {
+            assertThat(balanceJournal.rebuildBalance(user.getId())).isEqualTo(userService.findBalance(user.getId()));
+        }
+        assertThat(balanceJournal.rebuildBalance(alice.getId())).isEqualTo(Money.parse("75.00"));
+    }
+
+    @Test
+    void postingCommittedAfterALaterSnapshotIsStillCounted() {
+        transactionService.createTransaction(new TransactionDTO(Money.parse("10.00"), alice.getId(), bob.getId()));
+        scheduler.snapshotAll();
+
+        // a transfer whose transaction stamped its postings an hour ago but commits only now
+        User payer = userRepository.findById(alice.getId()).orElseThrow();
+        payer.setBalance(payer.getBalance().minus(Money.parse("4.00")));
+        userRepository.save(payer);
+        postingRepository.save(new LedgerPosting(alice.getId(), null, PostingType.DEBIT, Money.parse("-4.00"),
+                LocalDateTime.now().minusHours(1)));
+
+        assertThat(balanceJournal.rebuildBalance(alice.getId())).isEqualTo(Money.parse("86.00"));
+        assertThat(scheduler.snapshotAll()).isEqualTo(1);
+        assertThat(balanceJournal.rebuildBalance(alice.getId())).isEqualTo(Money.parse("86.00"))
+                .isEqualTo(userService.findBalance(alice.getId()));
+    }
+
+    @Test
+    void backlogIsSnapshottedInBoundedRuns() {
+        scheduler.snapshotAll();
+        for (int i = 0; i < 3; i++) {
+            transactionService.createTransaction(new TransactionDTO(Money.parse("1.00"), alice.getId(), bob.getId()));
+        }
+
+        // six postings against a limit of four per run
+        SnapshotRun first = balanceJournal.takeSnapshot();
+        assertThat(first.more()).isTrue();
+        assertThat(postingRepository.sumUnsnapshotted(List.of(alice.getId(), bob.getId()))).isNotEmpty();
+
+        SnapshotRun second = balanceJournal.takeSnapshot();
+        assertThat(second.more()).isFalse();
+        assertThat(postingRepository.sumUnsnapshotted(List.of(alice.getId(), bob.getId()))).isEmpty();
+        assertThat(balanceJournal.rebuildBalance(alice.getId())).isEqualTo(Money.parse("97.00"));
+        assertThat(balanceJournal.rebuildBalance(bob.getId())).isEqualTo(Money.parse("53.00"));
+    }
+
+    @Test
+    void reconciliationReportsOnlyTheDriftedWallet() {
+        transactionService.createTransaction(new TransactionDTO(Money.parse("10.00"), alice.getId(), carol.getId()));
+        assertThat(fullPass()).isEmpty();
+
+        // a balance changed outside the transfer path leaves no posting behind
+        User drifted = userRepository.findById(bob.getId()).orElseThrow();
+        drifted.setBalance(drifted.getBalance().plus(Money.ofCents(1)));
+        userRepository.save(drifted);
+
+        assertThat(fullPass()).containsExactly(bob.getId());
+    }
+
+    // wallets of this test only; other tests share the database and may drift theirs on purpose
+    private List<Long> fullPass() {
+        List<Long> own = List.of(alice.getId(), bob.getId(), carol.getId());
+        List<Long> mismatched = new ArrayList<>();
+        ReconciliationChunk chunk;
+        do {
+            chunk = scheduler.reconcileNextChunk();
+            chunk.mismatchedWalletIds().stream().filter(own::contains).forEach(mismatched::add);
+        } while (chunk.checked() == 2);
+        return mismatched;
+    }
+}
@@ -0,0 +1,83 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.domain.user.BalanceConsistency;
+import com.simplifiedTransferSystemSpring.domain.user.User;
+import com.simplifiedTransferSystemSpring.dtos.TransactionDTO;
+import com.simplifiedTransferSystemSpring.dtos.UserBalanceDTO;
+import com.simplifiedTransferSystemSpring.repositories.UserRepository;
+import com.simplifiedTransferSystemSpring.support.TransferIntegrationTest;
+
+class BalanceViewTest extends TransferIntegrationTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BalanceView balanceView;
+
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() {
+        alice = users.create("100.00");
+        bob = users.create("0.00");
+    }
+
+    @Test
+    void committedTransfersUpdateTheViewAndStrongReadsGoToTheDatabase() {
+        assertThat(eventual(alice).balance()).isEqualTo(Money.parse("100.00"));
+
+        transactionService.createTransaction(new TransactionDTO(Money.parse("30.00"), alice.getId(), bob.getId()));
+
+        UserBalanceDTO payer = eventual(alice);
+        assertThat(payer.balance()).isEqualTo(Money.parse("70.00"));
+        assertThat(payer.version()).isPositive();
+        assertThat(eventual(bob).balance()).isEqualTo(Money.parse("30.00"));
+
+        // a write the view never hears about, as from another instance
+        User changed = userRepository.findById(alice.getId()).orElseThrow();
+        changed.setBalance(Money.parse("1.00"));
+        userRepository.save(changed);
+
+        assertThat(eventual(alice).balance()).isEqualTo(Money.parse("70.00"));
+        assertThat(balanceView.findBalance(alice.getId(), BalanceConsistency.STRONG).balance())
+                .isEqualTo(Money.parse("1.00"));
+    }
+
+    @Test
+    void anUpdateAppliedLateNeverReplacesANewerOne() {
+        List<TransactionSynchronization> late;
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            balanceView.recordCommitted(Map.of(alice.getId(), Money.parse("10.00")));
+            late = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        balanceView.recordCommitted(Map.of(alice.getId(), Money.parse("20.00")));
+        late.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(eventual(alice).balance()).isEqualTo(Money.parse("20.00"));
+    }
+
+    private UserBalanceDTO eventual(User user) {
+        return balanceView.findBalance(user.getId(), BalanceConsistency.EVENTUAL);
+    }
+}
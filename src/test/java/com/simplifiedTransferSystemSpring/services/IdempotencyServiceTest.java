@@ -0,0 +1,127 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.domain.user.User;
+import com.simplifiedTransferSystemSpring.dtos.TransactionDTO;
+import com.simplifiedTransferSystemSpring.dtos.TransactionSummaryDTO;
+import com.simplifiedTransferSystemSpring.support.TransferIntegrationTest;
+
+class IdempotencyServiceTest extends TransferIntegrationTest {
+
+    private static final int DUPLICATES = 16;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    private User payer;
+    private User payee;
+
+    @BeforeEach
+    void setUp() {
+        payer = users.create("100.00");
+        payee = users.create("100.00");
+    }
+
+    @Test
+    void concurrentDuplicatesDebitOnce() throws Exception {
+        // a slow authorizer keeps the first request in flight while the duplicates arrive
+        when(authorizationClient.authorize()).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            return true;
+        });
+        String key = UUID.randomUUID().toString();
+        TransactionDTO request = new TransactionDTO(Money.parse("10.00"), payer.getId(), payee.getId());
+
+        ExecutorService pool = Executors.newFixedThreadPool(DUPLICATES);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<TransactionSummaryDTO>> responses = new ArrayList<>();
+        for (int i = 0; i < DUPLICATES; i++) {
+            responses.add(pool.submit(() -> {
+                start.await();
+                return idempotencyService.execute(key, request);
+            }));
+        }
+        start.countDown();
+
+        List<Long> ids = new ArrayList<>();
+        for (Future<TransactionSummaryDTO> response : responses) {
+            ids.add(response.get(30, TimeUnit.SECONDS).id());
+        }
+        pool.shutdown();
+
+        assertThat(ids).doesNotContainNull().containsOnly(ids.get(0));
+        assertThat(userService.findBalance(payer.getId())).isEqualTo(Money.parse("90.00"));
+        verify(authorizationClient, times(1)).authorize();
+    }
+
+    @Test
+    void keyCommittedElsewhereAfterTheLookupRollsBackTheSecondTransfer() throws Exception {
+        String key = UUID.randomUUID().toString();
+        TransactionDTO request = new TransactionDTO(Money.parse("10.00"), payer.getId(), payee.getId());
+        ExecutorService otherInstance = Executors.newSingleThreadExecutor();
+        AtomicReference<TransactionSummaryDTO> committedElsewhere = new AtomicReference<>();
+
+        // the first authorization runs after the key lookup; meanwhile another instance commits the same key
+        AtomicBoolean first = new AtomicBoolean(true);
+        when(authorizationClient.authorize()).thenAnswer(invocation -> {
+            if (first.getAndSet(false)) {
+                committedElsewhere.set(otherInstance.submit(() -> transactionService.createTransaction(request, key,
+                        IdempotencyService.fingerprint(request))).get(30, TimeUnit.SECONDS));
+            }
+            return true;
+        });
+
+        TransactionSummaryDTO response = idempotencyService.execute(key, request);
+        otherInstance.shutdown();
+
+        assertThat(response.id()).isEqualTo(committedElsewhere.get().id());
+        assertThat(userService.findBalance(payer.getId())).isEqualTo(Money.parse("90.00"));
+        assertThat(userService.findBalance(payee.getId())).isEqualTo(Money.parse("110.00"));
+    }
+
+    @Test
+    void retryReplaysAndDifferentRequestIsRejected() {
+        String key = UUID.randomUUID().toString();
+
+        TransactionSummaryDTO first = idempotencyService.execute(key,
+                new TransactionDTO(Money.parse("10.00"), payer.getId(), payee.getId()));
+        TransactionSummaryDTO retry = idempotencyService.execute(key,
+                new TransactionDTO(Money.parse("10"), payer.getId(), payee.getId()));
+
+        assertThat(retry).isEqualTo(first);
+        assertThat(userService.findBalance(payer.getId())).isEqualTo(Money.parse("90.00"));
+        assertThatThrownBy(() -> idempotencyService.execute(key,
+                new TransactionDTO(Money.parse("20.00"), payer.getId(), payee.getId())))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_CONTENT));
+    }
+}
@@ -0,0 +1,178 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.domain.transaction.Transaction;
+import com.simplifiedTransferSystemSpring.domain.user.User;
+import com.simplifiedTransferSystemSpring.domain.user.UserType;
+import com.simplifiedTransferSystemSpring.dtos.TransactionDTO;
+import com.simplifiedTransferSystemSpring.dtos.UserDTO;
+import com.simplifiedTransferSystemSpring.repositories.TransactionRepository;
+import com.simplifiedTransferSystemSpring.repositories.UserRepository;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ledger-engine-test",
+        "spring.jpa.show-sql=false",
+        "notification.dispatcher.enabled=false",
+        "ledger.engine.enabled=true",
+        "ledger.engine.flush-interval-ms=3600000",
+        "ledger.snapshot.enabled=false",
+        "ledger.reconciliation.enabled=false"
+})
+class LedgerEngineTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private LedgerEngine ledgerEngine;
+
+    @MockitoBean
+    private AuthorizationClient authorizationClient;
+
+    @DynamicPropertySource
+    static void journalPath(DynamicPropertyRegistry registry) throws IOException {
+        String path = Files.createTempDirectory("ledger").resolve("ledger.journal").toString();
+        registry.add("ledger.engine.journal-path", () -> path);
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(authorizationClient.authorize()).thenReturn(true);
+    }
+
+    @Test
+    void engineMatchesJpaTransferPath() {
+        List<User> ledgerWallets = createWallets(4, UserType.COMMON);
+        ledgerWallets.addAll(createWallets(1, UserType.MERCHANT));
+        List<User> jpaWallets = createWallets(4, UserType.COMMON);
+        jpaWallets.addAll(createWallets(1, UserType.MERCHANT));
+
+        Random random = new Random(42);
+        List<int[]> transfers = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            transfers.add(new int[] { random.nextInt(5), random.nextInt(5), random.nextInt(1, 400_00) });
+        }
+
+        List<Boolean> ledgerOutcomes = run(transfers, ledgerWallets);
+        // the same services with the engine detached take the locking JPA path
+        List<Boolean> jpaOutcomes = withoutEngine(() -> run(transfers, jpaWallets));
+
+        assertThat(ledgerOutcomes).isEqualTo(jpaOutcomes).contains(true, false);
+
+        ledgerEngine.flush();
+        for (int i = 0; i < ledgerWallets.size(); i++) {
+            Money jpaBalance = balance(jpaWallets.get(i));
+            assertThat(ledgerEngine.balanceOf(ledgerWallets.get(i).getId())).isEqualTo(jpaBalance);
+            assertThat(balance(ledgerWallets.get(i))).isEqualTo(jpaBalance);
+        }
+    }
+
+    @Test
+    void transferIsReturnedWithTheIdItsRowGets() {
+        List<User> wallets = createWallets(2, UserType.COMMON);
+
+        Transaction transaction = transactionService.createTransaction(
+                new TransactionDTO(Money.parse("12.34"), wallets.get(0).getId(), wallets.get(1).getId()));
+        assertThat(transaction.getId()).isNotNull();
+
+        ledgerEngine.flush();
+        assertThat(transactionRepository.findById(transaction.getId())).hasValueSatisfying(stored -> {
+            assertThat(stored.getAmount()).isEqualTo(Money.parse("12.34"));
+            assertThat(stored.getPayer().getId()).isEqualTo(wallets.get(0).getId());
+        });
+    }
+
+    @Test
+    void unflushedTransfersAreReplayedFromJournal() {
+        List<User> wallets = createWallets(2, UserType.COMMON);
+        User payer = wallets.get(0);
+        User payee = wallets.get(1);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(transfer(payer, payee, Money.parse("25.00"))).isTrue();
+        }
+        assertThat(userRepository.findUserById(payer.getId()).orElseThrow().getBalance())
+                .isEqualTo(Money.parse("1000.00"));
+
+        // what startup does: apply journal entries past the checkpoint, then reload balances
+        ledgerEngine.recover();
+
+        assertThat(userRepository.findUserById(payer.getId()).orElseThrow().getBalance())
+                .isEqualTo(Money.parse("750.00"));
+        assertThat(userRepository.findUserById(payee.getId()).orElseThrow().getBalance())
+                .isEqualTo(Money.parse("1250.00"));
+        assertThat(ledgerEngine.balanceOf(payer.getId())).isEqualTo(Money.parse("750.00"));
+    }
+
+    private boolean transfer(User payer, User payee, Money value) {
+        try {
+            transactionService.createTransaction(new TransactionDTO(value, payer.getId(), payee.getId()));
+            return true;
+        } catch (ResponseStatusException e) {
+            return false;
+        }
+    }
+
+    private List<User> createWallets(int count, UserType type) {
+        List<User> wallets = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String id = UUID.randomUUID().toString();
+            wallets.add(userService.createUser(new UserDTO("Wallet", id, id, Money.parse("1000.00"),
+                    "secret", id + "@example.com", type)));
+        }
+        return wallets;
+    }
+
+    private List<Boolean> run(List<int[]> transfers, List<User> wallets) {
+        List<Boolean> outcomes = new ArrayList<>(transfers.size());
+        for (int[] transfer : transfers) {
+            outcomes.add(transfer(wallets.get(transfer[0]), wallets.get(transfer[1]), Money.ofCents(transfer[2])));
+        }
+        return outcomes;
+    }
+
+    private <T> T withoutEngine(Supplier<T> action) {
+        ReflectionTestUtils.setField(transactionService, "ledgerEngine", null);
+        ReflectionTestUtils.setField(userService, "ledgerEngine", null);
+        try {
+            return action.get();
+        } finally {
+            ReflectionTestUtils.setField(transactionService, "ledgerEngine", ledgerEngine);
+            ReflectionTestUtils.setField(userService, "ledgerEngine", ledgerEngine);
+        }
+    }
+
+    private Money balance(User wallet) {
+        return userRepository.findUserById(wallet.getId()).orElseThrow().getBalance();
+    }
+}
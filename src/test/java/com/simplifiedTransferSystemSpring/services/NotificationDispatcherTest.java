@@ -0,0 +1,142 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.domain.notification.NotificationOutbox;
+import com.simplifiedTransferSystemSpring.domain.notification.NotificationStatus;
+import com.simplifiedTransferSystemSpring.domain.transaction.Transaction;
+import com.simplifiedTransferSystemSpring.domain.user.UserType;
+import com.simplifiedTransferSystemSpring.dtos.TransactionDTO;
+import com.simplifiedTransferSystemSpring.repositories.NotificationOutboxRepository;
+import com.simplifiedTransferSystemSpring.repositories.TransactionRepository;
+import com.simplifiedTransferSystemSpring.support.StubHttpServer;
+import com.simplifiedTransferSystemSpring.support.TestUsers;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:notification-dispatcher-test",
+        "spring.jpa.show-sql=false",
+        "notification.dispatcher.enabled=true",
+        // runs are triggered by the test only
+        "notification.dispatcher.interval-ms=3600000",
+        "notification.dispatcher.batch-size=2",
+        "notification.dispatcher.backoff-ms=50",
+        "notification.dispatcher.max-backoff-ms=50",
+        "notification.max-attempts=1"
+})
+@Import(TestUsers.class)
+class NotificationDispatcherTest {
+
+    private static final StubHttpServer notifier = StubHttpServer.start();
+
+    @Autowired
+    private NotificationDispatcher dispatcher;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TestUsers users;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private NotificationOutboxStore outboxStore;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @MockitoBean
+    private AuthorizationClient authorizationClient;
+
+    @DynamicPropertySource
+    static void notifierUrl(DynamicPropertyRegistry registry) {
+        registry.add("notification.url", () -> notifier.url("/api/v1/notify"));
+    }
+
+    @AfterAll
+    static void stopNotifier() {
+        notifier.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(authorizationClient.authorize()).thenReturn(true);
+    }
+
+    @Test
+    void outageBacksOffInsteadOfSpendingEveryAttemptInOneRun() throws InterruptedException {
+        notifier.respond(503, "{}");
+        Transaction transaction = transfer();
+        int before = notifier.requestCount();
+
+        // payer and payee rows fill one batch; a full batch that delivered nothing ends the run
+        dispatcher.dispatchPending();
+        assertThat(notifier.requestCount() - before).isEqualTo(2);
+        assertThat(outbox(transaction)).allSatisfy(entry -> {
+            assertThat(entry.getStatus()).isEqualTo(NotificationStatus.PENDING);
+            assertThat(entry.getAttempts()).isEqualTo(1);
+            assertThat(entry.getNextAttemptAt()).isAfter(entry.getUpdatedAt());
+        });
+
+        notifier.respond(200, "{}");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!outbox(transaction).stream().allMatch(entry -> entry.getStatus() == NotificationStatus.SENT)) {
+            assertThat(System.nanoTime()).as("outbox rows sent after the backoff").isLessThan(deadline);
+            Thread.sleep(20);
+            dispatcher.dispatchPending();
+        }
+        assertThat(notifier.requestCount() - before).isEqualTo(4);
+        assertThat(outbox(transaction)).allSatisfy(entry -> assertThat(entry.getAttempts()).isEqualTo(2));
+        assertThat(transactionRepository.findById(transaction.getId())).hasValueSatisfying(sent -> {
+            assertThat(sent.isPayerNotified()).isTrue();
+            assertThat(sent.isPayeeNotified()).isTrue();
+        });
+    }
+
+    @Test
+    void claimedRowsAreNotHandedToAnotherDispatcher() {
+        Transaction transaction = transfer();
+        LocalDateTime leaseUntil = LocalDateTime.now().plusMinutes(1);
+
+        List<NotificationOutbox> claimed = outboxStore.claimDue(10, leaseUntil);
+
+        assertThat(claimed).extracting(NotificationOutbox::getId)
+                .containsAll(outbox(transaction).stream().map(NotificationOutbox::getId).toList());
+        assertThat(outboxStore.claimDue(10, leaseUntil)).isEmpty();
+
+        // a node whose lease ran out and was claimed by another cannot record an outcome any more
+        NotificationOutbox stale = claimed.get(0);
+        stale.setClaimToken("lost");
+        assertThat(outboxStore.recordSent(stale, LocalDateTime.now())).isFalse();
+    }
+
+    private Transaction transfer() {
+        return transactionService.createTransaction(new TransactionDTO(Money.parse("10.00"),
+                users.create("100.00").getId(), users.create("100.00", UserType.MERCHANT).getId()));
+    }
+
+    private List<NotificationOutbox> outbox(Transaction transaction) {
+        List<NotificationOutbox> entries = outboxRepository.findAll().stream()
+                .filter(entry -> entry.getTransaction().getId().equals(transaction.getId()))
+                .toList();
+        assertThat(entries).hasSize(2);
+        return entries;
+    }
+}
@@ -0,0 +1,98 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.reactive.JdkClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.simplifiedTransferSystemSpring.infra.NotificationProperties;
+import com.simplifiedTransferSystemSpring.support.StubHttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class NotificationsServiceTest {
+
+    private StubHttpServer notifier;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        notifier = StubHttpServer.start();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        notifier.close();
+    }
+
+    @Test
+    void sendsOnFirstAttempt() {
+        notifier.respond(200, "{}");
+
+        assertThat(newService(3, 0).send("a@example.com", "hi").block()).isTrue();
+        assertThat(notifier.requestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void retriesServerErrorsThenGivesUp() {
+        notifier.respond(503, "{}");
+
+        assertThat(newService(3, 0).send("a@example.com", "hi").block()).isFalse();
+        assertThat(notifier.requestCount()).isEqualTo(3);
+        assertThat(meterRegistry.counter("notification.retries").count()).isEqualTo(2);
+    }
+
+    @Test
+    void clientErrorsAreNotRetried() {
+        notifier.respond(400, "{}");
+
+        assertThat(newService(3, 0).send("a@example.com", "hi").block()).isFalse();
+        assertThat(notifier.requestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void sendsOverlapInsteadOfQueueingBehindEachOther() {
+        notifier.respond(200, "{}").delay(300);
+        NotificationsService service = newService(1, 0);
+
+        long start = System.nanoTime();
+        Mono.zip(service.send("payer@example.com", "sent"), service.send("payee@example.com", "received"))
+                .block();
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertThat(elapsedMillis).isLessThan(550);
+        assertThat(notifier.requestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void requestsToOneEndpointAreSpacedByTheRateLimit() {
+        notifier.respond(200, "{}");
+        NotificationsService service = newService(1, 10);
+
+        long start = System.nanoTime();
+        Mono.zip(service.send("a@example.com", "1"), service.send("b@example.com", "2"),
+                service.send("c@example.com", "3")).block();
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // three requests at 10/s: the third may start only 200ms after the first
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(190);
+        assertThat(notifier.requestCount()).isEqualTo(3);
+    }
+
+    private NotificationsService newService(int maxAttempts, double ratePerSecond) {
+        NotificationProperties properties = new NotificationProperties(notifier.url("/notify"), maxAttempts, 10, 50,
+                0.5, 2000, 16, ratePerSecond);
+        WebClient webClient = WebClient.builder()
+                .clientConnector(new JdkClientHttpConnector(HttpClient.newHttpClient()))
+                .build();
+        return new NotificationsService(webClient, properties, meterRegistry);
+    }
+}
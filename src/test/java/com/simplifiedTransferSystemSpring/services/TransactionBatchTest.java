@@ -0,0 +1,86 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.domain.transaction.BatchItemStatus;
+import com.simplifiedTransferSystemSpring.domain.transaction.BatchMode;
+import com.simplifiedTransferSystemSpring.domain.user.User;
+import com.simplifiedTransferSystemSpring.dtos.BatchItemResultDTO;
+import com.simplifiedTransferSystemSpring.dtos.BatchTransferDTO;
+import com.simplifiedTransferSystemSpring.dtos.BatchTransferResultDTO;
+import com.simplifiedTransferSystemSpring.dtos.TransactionDTO;
+import com.simplifiedTransferSystemSpring.support.TransferIntegrationTest;
+
+class TransactionBatchTest extends TransferIntegrationTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private UserService userService;
+
+    private User alice;
+    private User bob;
+    private User carol;
+
+    @BeforeEach
+    void setUp() {
+        alice = users.create("100.00");
+        bob = users.create("0.00");
+        carol = users.create("0.00");
+    }
+
+    @Test
+    void spendsFundsReceivedEarlierInTheBatch() {
+        BatchTransferResultDTO result = transactionService.createBatch(new BatchTransferDTO(BatchMode.ALL_OR_NOTHING,
+                List.of(transfer("60.00", alice, bob), transfer("50.00", bob, carol))));
+
+        assertThat(result.applied()).isEqualTo(2);
+        assertThat(result.items()).extracting(BatchItemResultDTO::transactionId).doesNotContainNull();
+        assertThat(balanceOf(alice)).isEqualTo(Money.parse("40.00"));
+        assertThat(balanceOf(bob)).isEqualTo(Money.parse("10.00"));
+        assertThat(balanceOf(carol)).isEqualTo(Money.parse("50.00"));
+        verify(authorizationClient, times(1)).authorize();
+    }
+
+    @Test
+    void allOrNothingWritesNothingWhenAnItemFails() {
+        BatchTransferResultDTO result = transactionService.createBatch(new BatchTransferDTO(BatchMode.ALL_OR_NOTHING,
+                List.of(transfer("60.00", alice, bob), transfer("60.00", alice, carol))));
+
+        assertThat(result.items()).extracting(BatchItemResultDTO::status)
+                .containsExactly(BatchItemStatus.SKIPPED, BatchItemStatus.REJECTED);
+        assertThat(result.items().get(1).error()).isEqualTo("Insufficient funds for the transaction.");
+        assertThat(balanceOf(alice)).isEqualTo(Money.parse("100.00"));
+        assertThat(balanceOf(bob)).isEqualTo(Money.parse("0.00"));
+    }
+
+    @Test
+    void bestEffortAppliesTheValidItems() {
+        BatchTransferResultDTO result = transactionService.createBatch(new BatchTransferDTO(BatchMode.BEST_EFFORT,
+                List.of(transfer("60.00", alice, bob), transfer("60.00", alice, carol),
+                        transfer("-1.00", alice, carol), transfer("10.00", alice, carol))));
+
+        assertThat(result.items()).extracting(BatchItemResultDTO::status).containsExactly(BatchItemStatus.APPLIED,
+                BatchItemStatus.REJECTED, BatchItemStatus.REJECTED, BatchItemStatus.APPLIED);
+        assertThat(balanceOf(alice)).isEqualTo(Money.parse("30.00"));
+        assertThat(balanceOf(carol)).isEqualTo(Money.parse("10.00"));
+    }
+
+    private Money balanceOf(User user) {
+        return userService.findBalance(user.getId());
+    }
+
+    private static TransactionDTO transfer(String value, User payer, User payee) {
+        return new TransactionDTO(Money.parse(value), payer.getId(), payee.getId());
+    }
+}
@@ -0,0 +1,101 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.domain.user.User;
+import com.simplifiedTransferSystemSpring.domain.user.UserType;
+import com.simplifiedTransferSystemSpring.dtos.TransactionDTO;
+import com.simplifiedTransferSystemSpring.dtos.UserDTO;
+import com.simplifiedTransferSystemSpring.repositories.UserRepository;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:concurrency-test",
+        "spring.jpa.show-sql=false",
+        "notification.dispatcher.enabled=false"
+})
+class TransactionServiceConcurrencyTest {
+
+    private static final int WALLETS = 4;
+    private static final int TRANSFERS = 2000;
+    private static final Money INITIAL_BALANCE = Money.parse("1000.00");
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private AuthorizationClient authorizationClient;
+
+    private final List<Long> walletIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(authorizationClient.authorize()).thenReturn(true);
+
+        for (int i = 0; i < WALLETS; i++) {
+            User user = userService.createUser(new UserDTO("Wallet", String.valueOf(i), "doc-" + i,
+                    INITIAL_BALANCE, "secret", "wallet" + i + "@example.com", UserType.COMMON));
+            walletIds.add(user.getId());
+        }
+    }
+
+    @Test
+    void concurrentTransfersConserveTotalBalance() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        List<Future<Boolean>> results = new ArrayList<>(TRANSFERS);
+
+        for (int i = 0; i < TRANSFERS; i++) {
+            results.add(pool.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                Long payer = walletIds.get(random.nextInt(WALLETS));
+                Long payee = walletIds.get(random.nextInt(WALLETS));
+                Money value = Money.ofCents(random.nextInt(1, 200_00));
+                try {
+                    transactionService.createTransaction(new TransactionDTO(value, payer, payee));
+                    return true;
+                } catch (ResponseStatusException e) {
+                    return false;
+                }
+            }));
+        }
+
+        pool.shutdown();
+        assertThat(pool.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+
+        long succeeded = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                succeeded++;
+            }
+        }
+
+        List<User> wallets = userRepository.findAllById(walletIds);
+        Money total = wallets.stream().map(User::getBalance).reduce(Money.ZERO, Money::plus);
+
+        assertThat(succeeded).isPositive();
+        assertThat(total).isEqualTo(Money.ofCents(INITIAL_BALANCE.cents() * WALLETS));
+        assertThat(wallets).allSatisfy(w -> assertThat(w.getBalance()).isGreaterThanOrEqualTo(Money.ZERO));
+    }
+}
@@ -0,0 +1,66 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import com.simplifiedTransferSystemSpring.infra.RetryLaterException;
+import com.simplifiedTransferSystemSpring.infra.TransferAdmissionProperties;
+import com.simplifiedTransferSystemSpring.services.TransferAdmission.Permit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TransferAdmissionTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // one transfer at a time, one token per payer with practically no refill
+    private final TransferAdmission admission = new TransferAdmission(
+            new TransferAdmissionProperties(true, 0.001, 1, 1, 60_000, 5_000, 1), meterRegistry);
+
+    @Test
+    void requestShedForOverloadKeepsThePayersToken() {
+        Permit running = admission.admit(1L);
+
+        assertThatThrownBy(() -> admission.admit(2L))
+                .isInstanceOfSatisfying(RetryLaterException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        running.close();
+
+        try (Permit permit = admission.admit(2L)) {
+            assertThat(permit).isNotNull();
+        }
+    }
+
+    @Test
+    void rateLimitedRequestGivesBackItsInFlightSlot() {
+        admission.admit(1L).close();
+
+        assertThatThrownBy(() -> admission.admit(1L))
+                .isInstanceOfSatisfying(RetryLaterException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS));
+
+        try (Permit permit = admission.admit(2L)) {
+            assertThat(meterRegistry.get("transfer.admission.in_flight").gauge().value()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void batchTakesOneSlotAndOneTokenPerDistinctPayer() {
+        try (Permit batch = admission.admit(List.of(1L, 2L, 1L))) {
+            assertThat(meterRegistry.get("transfer.admission.in_flight").gauge().value()).isEqualTo(1);
+        }
+
+        assertThatThrownBy(() -> admission.admit(2L))
+                .isInstanceOfSatisfying(RetryLaterException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS));
+        assertThatThrownBy(() -> admission.admit(List.of(3L, 1L)))
+                .isInstanceOfSatisfying(RetryLaterException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS));
+        assertThat(meterRegistry.get("transfer.admission.in_flight").gauge().value()).isZero();
+    }
+}
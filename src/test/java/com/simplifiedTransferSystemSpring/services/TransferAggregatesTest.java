@@ -0,0 +1,89 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.domain.transaction.BatchMode;
+import com.simplifiedTransferSystemSpring.domain.user.User;
+import com.simplifiedTransferSystemSpring.domain.user.UserType;
+import com.simplifiedTransferSystemSpring.dtos.BatchTransferDTO;
+import com.simplifiedTransferSystemSpring.dtos.TransactionDTO;
+import com.simplifiedTransferSystemSpring.dtos.WalletDailyTotalsDTO;
+import com.simplifiedTransferSystemSpring.dtos.WalletTotalsDTO;
+import com.simplifiedTransferSystemSpring.repositories.WalletDailyTotalsRepository;
+import com.simplifiedTransferSystemSpring.repositories.WalletTotalsRepository;
+import com.simplifiedTransferSystemSpring.support.TransferIntegrationTest;
+
+class TransferAggregatesTest extends TransferIntegrationTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransferAggregates transferAggregates;
+
+    @Autowired
+    private TransferAggregatesRebuilder rebuilder;
+
+    @Autowired
+    private WalletTotalsRepository totalsRepository;
+
+    @Autowired
+    private WalletDailyTotalsRepository dailyRepository;
+
+    private User alice;
+    private User bob;
+    private User shop;
+
+    @BeforeEach
+    void setUp() {
+        alice = users.create("100.00");
+        bob = users.create("100.00");
+        shop = users.create("100.00", UserType.MERCHANT);
+
+        transactionService.createTransaction(new TransactionDTO(Money.parse("10.00"), alice.getId(), shop.getId()));
+        transactionService.createBatch(new BatchTransferDTO(BatchMode.BEST_EFFORT, List.of(
+                new TransactionDTO(Money.parse("2.50"), bob.getId(), shop.getId()),
+                new TransactionDTO(Money.parse("4.00"), alice.getId(), bob.getId()),
+                // rejected: merchants cannot send
+                new TransactionDTO(Money.parse("1.00"), shop.getId(), alice.getId()))));
+    }
+
+    @Test
+    void transfersUpdateTotalsAndDailyBuckets() {
+        assertThat(transferAggregates.findTotals(shop.getId()))
+                .isEqualTo(new WalletTotalsDTO(shop.getId(), Money.ZERO, 0, Money.parse("12.50"), 2));
+        assertThat(transferAggregates.findTotals(alice.getId()))
+                .isEqualTo(new WalletTotalsDTO(alice.getId(), Money.parse("14.00"), 2, Money.ZERO, 0));
+
+        LocalDate today = LocalDate.now();
+        assertThat(transferAggregates.findDaily(bob.getId(), today.minusDays(1), today)).containsExactly(
+                new WalletDailyTotalsDTO(bob.getId(), today, Money.parse("2.50"), 1, Money.parse("4.00"), 1));
+        // other tests share the database, so only the shop's place in the ranking is checked
+        List<WalletDailyTotalsDTO> top = transferAggregates.findTopPayees(today, 100);
+        assertThat(top).extracting(WalletDailyTotalsDTO::receivedAmount)
+                .isSortedAccordingTo((a, b) -> b.compareTo(a));
+        assertThat(top).filteredOn(daily -> daily.walletId().equals(shop.getId()))
+                .extracting(WalletDailyTotalsDTO::receivedAmount).containsExactly(Money.parse("12.50"));
+    }
+
+    @Test
+    void rebuildRecomputesWhatTransfersMaintained() {
+        List<Long> wallets = List.of(alice.getId(), bob.getId(), shop.getId());
+        List<WalletTotalsDTO> maintained = wallets.stream().map(transferAggregates::findTotals).toList();
+
+        totalsRepository.deleteAllInBatch();
+        dailyRepository.deleteAllInBatch();
+        assertThat(transferAggregates.findTotals(shop.getId()).receivedCount()).isZero();
+
+        assertThat(rebuilder.rebuild().wallets()).isGreaterThanOrEqualTo(3);
+        assertThat(wallets.stream().map(transferAggregates::findTotals).toList()).isEqualTo(maintained);
+    }
+}
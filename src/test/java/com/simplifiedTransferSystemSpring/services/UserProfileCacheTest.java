@@ -0,0 +1,69 @@
+package com.simplifiedTransferSystemSpring.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.domain.user.User;
+import com.simplifiedTransferSystemSpring.dtos.TransactionDTO;
+import com.simplifiedTransferSystemSpring.support.TransferIntegrationTest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+class UserProfileCacheTest extends TransferIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void repeatedLookupsAreServedFromTheCache() {
+        User user = users.create("10.00");
+        double hitsBefore = hits();
+
+        userService.findProfile(user.getId());
+        userService.findProfile(user.getId());
+
+        assertThat(hits() - hitsBefore).isEqualTo(1);
+    }
+
+    @Test
+    void saveUserInvalidatesTheProfile() {
+        User user = users.create("10.00");
+        userService.findProfile(user.getId());
+
+        User managed = userService.findUserById(user.getId());
+        managed.setEmail("changed-" + managed.getEmail());
+        userService.saveUser(managed);
+
+        assertThat(userService.findProfile(user.getId()).email()).startsWith("changed-");
+    }
+
+    @Test
+    void cachedProfileNeverCarriesAStaleBalance() {
+        User payer = users.create("10.00");
+        User payee = users.create("0.00");
+        userService.findProfile(payer.getId());
+
+        transactionService.createTransaction(new TransactionDTO(Money.parse("10.00"), payer.getId(), payee.getId()));
+
+        assertThatThrownBy(() -> transactionService.createTransaction(
+                new TransactionDTO(Money.parse("10.00"), payer.getId(), payee.getId())))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("Insufficient funds");
+    }
+
+    private double hits() {
+        return meterRegistry.get("cache.gets").tag("cache", "userProfiles").tag("result", "hit")
+                .functionCounter().count();
+    }
+}
@@ -0,0 +1,75 @@
+package com.simplifiedTransferSystemSpring.support;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-capacity latency recorder for benchmark tests. Safe to record from
+ * many threads; read the summary once they are done.
+ */
+public class LatencyStats {
+
+    private final AtomicLongArray samples;
+    private final AtomicInteger count = new AtomicInteger();
+    private final AtomicInteger errors = new AtomicInteger();
+
+    public LatencyStats(int capacity) {
+        this.samples = new AtomicLongArray(capacity);
+    }
+
+    public void record(long nanos) {
+        int index = this.count.getAndIncrement();
+        if (index < this.samples.length()) {
+            this.samples.set(index, nanos);
+        }
+    }
+
+    public void error() {
+        this.errors.incrementAndGet();
+    }
+
+    public int errors() {
+        return this.errors.get();
+    }
+
+    public int count() {
+        return Math.min(this.count.get(), this.samples.length());
+    }
+
+    public double percentileMillis(double percentile) {
+        long[] sorted = sorted();
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100d * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000d;
+    }
+
+    public double throughput(long elapsedNanos) {
+        return (count() + errors()) / (elapsedNanos / 1_000_000_000d);
+    }
+
+    public double errorPercent() {
+        int total = count() + errors();
+        return total == 0 ? 0 : 100d * errors() / total;
+    }
+
+    public String summary(String label, long elapsedNanos) {
+        return String.format("%-28s %8.0f req/s  p50 %7.2f ms  p99 %7.2f ms  errors %5.2f%%",
+                label,
+                throughput(elapsedNanos),
+                percentileMillis(50),
+                percentileMillis(99),
+                errorPercent());
+    }
+
+    private long[] sorted() {
+        long[] copy = new long[count()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = this.samples.get(i);
+        }
+        Arrays.sort(copy);
+        return copy;
+    }
+}
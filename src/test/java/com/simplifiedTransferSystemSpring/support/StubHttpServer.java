@@ -0,0 +1,77 @@
+package com.simplifiedTransferSystemSpring.support;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.simplifiedTransferSystemSpring.infra.StubResponses;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Minimal local HTTP server for tests that talk to the authorizer or the
+ * notifier. Every request gets the currently configured status, JSON body
+ * and artificial delay. Request handling is shared with the application's
+ * {@link StubResponses}; surefire sets the JVM option it expects.
+ */
+public class StubHttpServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private volatile int status = 200;
+    private volatile String body = "{}";
+    private volatile long delayMillis = 0;
+
+    private StubHttpServer(HttpServer server) {
+        this.server = server;
+    }
+
+    public static StubHttpServer start() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            StubHttpServer stub = new StubHttpServer(server);
+            server.createContext("/", stub::handle);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.start();
+            return stub;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public StubHttpServer respond(int status, String body) {
+        this.status = status;
+        this.body = body;
+        return this;
+    }
+
+    public StubHttpServer delay(long millis) {
+        this.delayMillis = millis;
+        return this;
+    }
+
+    public int requestCount() {
+        return this.requests.get();
+    }
+
+    public String url(String path) {
+        return "http://127.0.0.1:" + this.server.getAddress().getPort() + path;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        this.requests.incrementAndGet();
+        if (StubResponses.receive(exchange, this.delayMillis)) {
+            StubResponses.send(exchange, this.status, this.body.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Override
+    public void close() {
+        this.server.stop(0);
+    }
+}
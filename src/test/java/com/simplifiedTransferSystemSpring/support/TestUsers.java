@@ -0,0 +1,33 @@
+package com.simplifiedTransferSystemSpring.support;
+
+import java.util.UUID;
+
+import com.simplifiedTransferSystemSpring.domain.money.Money;
+import com.simplifiedTransferSystemSpring.domain.user.User;
+import com.simplifiedTransferSystemSpring.domain.user.UserType;
+import com.simplifiedTransferSystemSpring.dtos.UserDTO;
+import com.simplifiedTransferSystemSpring.services.UserService;
+
+/**
+ * Creates wallets through {@link UserService}, so they get their opening
+ * posting like any other. Documents and e-mails are random, which lets
+ * tests sharing one database create as many as they need.
+ */
+public class TestUsers {
+
+    private final UserService userService;
+
+    public TestUsers(UserService userService) {
+        this.userService = userService;
+    }
+
+    public User create(String balance) {
+        return create(balance, UserType.COMMON);
+    }
+
+    public User create(String balance, UserType type) {
+        String id = UUID.randomUUID().toString();
+        return this.userService.createUser(new UserDTO("Test", id, id, Money.parse(balance), "secret",
+                id + "@example.com", type));
+    }
+}
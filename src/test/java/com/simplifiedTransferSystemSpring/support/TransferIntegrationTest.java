@@ -0,0 +1,46 @@
+package com.simplifiedTransferSystemSpring.support;
+
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.simplifiedTransferSystemSpring.services.AuthorizationClient;
+
+/**
+ * Shared fixture for service tests that run real transfers: one H2 database
+ * and one cached application context for every subclass, an authorizer
+ * that approves by default, and {@link TestUsers}. Background jobs that
+ * tests drive directly are switched off here. Subclasses must not add
+ * properties or bean overrides of their own, or they get a context of their
+ * own again; since the database is shared, they only assert on wallets they
+ * created.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:transfer-integration-test",
+        "spring.jpa.show-sql=false",
+        "notification.dispatcher.enabled=false",
+        "ledger.snapshot.enabled=false",
+        "ledger.snapshot.max-postings-per-run=4",
+        "ledger.reconciliation.enabled=false",
+        "ledger.reconciliation.chunk-size=2",
+        "aggregates.rebuild.chunk-size=2",
+        "users.balance-view.max-age-ms=0"
+})
+@Import(TestUsers.class)
+public abstract class TransferIntegrationTest {
+
+    @MockitoBean
+    protected AuthorizationClient authorizationClient;
+
+    @Autowired
+    protected TestUsers users;
+
+    @BeforeEach
+    void approveTransfers() {
+        when(this.authorizationClient.authorize()).thenReturn(true);
+    }
+}